@@ -0,0 +1,144 @@
+package com.skydiveforecast.application.service;
+
+import com.skydiveforecast.domain.model.AnalysisPrompt;
+import com.skydiveforecast.domain.model.DailyJumpability;
+import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.model.HourlySeries;
+import com.skydiveforecast.domain.model.JumpRules;
+import com.skydiveforecast.domain.model.JumpWindow;
+import com.skydiveforecast.domain.model.Jumpability;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+
+// Builds the analysis prompt from data the service already holds: the dropzone, its limits, the daily
+// jumpability and a compact hourly table. Values are rounded to what matters for a jump decision and equal
+// consecutive hours are merged, which keeps the prompt small and makes prompts for the same place and
+// model run identical, so their hash can key the response cache.
+@Component
+public class AnalysisPromptAssembler {
+
+    // part of the cache key: bump it whenever the prompt layout changes
+    static final String TEMPLATE_VERSION = "v1";
+
+    private static final int MAX_QUESTION_LENGTH = 500;
+    private static final String DEFAULT_QUESTION =
+            "when are the best times to jump, and what should jumpers watch out for?";
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int SECONDS_PER_HOUR = 3_600;
+    private static final int MAX_VISIBILITY_KM = 20;
+
+    public AnalysisPrompt assemble(Dropzone dropzone, HourlySeries series, Jumpability jumpability, JumpRules rules,
+                                   String question, String model) {
+        StringBuilder text = new StringBuilder(2048);
+        text.append("Dropzone: ").append(dropzone.getName()).append(" (")
+                .append(String.format(Locale.ROOT, "%.2f,%.2f", dropzone.getLatitude().doubleValue(),
+                        dropzone.getLongitude().doubleValue()))
+                .append(Boolean.TRUE.equals(dropzone.getIsWingsuitFriendly()) ? ", wingsuit" : "")
+                .append(")\n");
+        text.append(String.format(Locale.ROOT,
+                "Limits: wind<=%.0f gust<=%.0f spread<=%.0f km/h, cloud<=%d%%, visibility>=%dkm, "
+                        + "precipitation<=%.1fmm, operating %02d-%02d\n",
+                rules.maxWindSpeedKmh(), rules.maxWindGustKmh(), rules.maxGustSpreadKmh(), rules.maxCloudCoverPct(),
+                rules.minVisibilityM() / 1000, rules.maxPrecipitationMm(), rules.firstHour(), rules.lastHour()));
+
+        text.append("Days (date, go/no-go, score 0-100, go hours, jump windows hh-hh:score):\n");
+        for (DailyJumpability day : jumpability.days()) {
+            appendDay(text, day, jumpability.windows());
+            text.append('\n');
+        }
+
+        text.append("Hours (local hh-hh, wind/gust km/h, cloud %, visibility km, precipitation mm):\n");
+        appendHours(text, series, rules);
+        text.append("Question: ").append(normalizeQuestion(question)).append('\n');
+
+        String prompt = text.toString();
+        return new AnalysisPrompt(prompt, sha256(TEMPLATE_VERSION + '\n' + model + '\n' + prompt));
+    }
+
+    // "date go|no-go score goHours windows", the day's windows as hh-hh:score
+    static void appendDay(StringBuilder text, DailyJumpability day, List<JumpWindow> windows) {
+        text.append(day.date()).append(day.go() ? " go " : " no-go ").append(day.score()).append(' ')
+                .append(day.goHours()).append('h');
+        for (JumpWindow window : windows) {
+            if (window.start().toLocalDate().equals(day.date())) {
+                text.append(String.format(Locale.ROOT, " %02d-%02d:%d", window.start().getHour(),
+                        window.end().getHour() == 0 ? 24 : window.end().getHour(), window.score()));
+            }
+        }
+    }
+
+    // operating hours only, with runs of equal rounded rows collapsed into one line
+    private static void appendHours(StringBuilder text, HourlySeries series, JumpRules rules) {
+        long[] times = series.localEpochSeconds();
+        String runValues = null;
+        long runDay = 0;
+        int runStart = 0;
+        int runEnd = 0;
+        for (int i = 0; i < series.size(); i++) {
+            int hour = (int) (Math.floorMod(times[i], SECONDS_PER_DAY) / SECONDS_PER_HOUR);
+            if (hour < rules.firstHour() || hour >= rules.lastHour()) {
+                continue;
+            }
+            long day = series.localEpochDay(i);
+            String values = hourValues(series, i);
+            if (runValues != null && day == runDay && hour == runEnd && values.equals(runValues)) {
+                runEnd = hour + 1;
+                continue;
+            }
+            if (runValues != null) {
+                appendRun(text, runDay, runStart, runEnd, runValues);
+            }
+            runValues = values;
+            runDay = day;
+            runStart = hour;
+            runEnd = hour + 1;
+        }
+        if (runValues != null) {
+            appendRun(text, runDay, runStart, runEnd, runValues);
+        }
+    }
+
+    private static void appendRun(StringBuilder text, long day, int start, int end, String values) {
+        text.append(LocalDate.ofEpochDay(day))
+                .append(String.format(Locale.ROOT, " %02d-%02d ", start, end))
+                .append(values).append('\n');
+    }
+
+    private static String hourValues(HourlySeries series, int i) {
+        String visibility = series.hasVisibility(i)
+                ? String.valueOf(Math.min(series.visibilityM()[i] / 1000, MAX_VISIBILITY_KM))
+                : "-";
+        return round(series.windSpeed10m()[i]) + "/" + round(series.windGusts10m()[i])
+                + ' ' + (Math.round(series.cloudCoverPct()[i] / 10.0) * 10)
+                + ' ' + visibility
+                + ' ' + String.format(Locale.ROOT, "%.1f", series.precipitationMm()[i]);
+    }
+
+    private static String round(double value) {
+        return Double.isNaN(value) ? "?" : String.valueOf(Math.round(value));
+    }
+
+    private static String normalizeQuestion(String question) {
+        if (question == null || question.isBlank()) {
+            return DEFAULT_QUESTION;
+        }
+        String normalized = question.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_QUESTION_LENGTH ? normalized.substring(0, MAX_QUESTION_LENGTH) : normalized;
+    }
+
+    static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
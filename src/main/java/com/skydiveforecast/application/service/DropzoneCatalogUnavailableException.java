@@ -0,0 +1,9 @@
+package com.skydiveforecast.application.service;
+
+// Work without a user found no dropzone catalog in memory and had no service token to load one
+public class DropzoneCatalogUnavailableException extends RuntimeException {
+
+    public DropzoneCatalogUnavailableException() {
+        super("Dropzone catalog is not loaded");
+    }
+}
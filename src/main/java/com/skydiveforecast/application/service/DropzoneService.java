@@ -1,15 +1,22 @@
 package com.skydiveforecast.application.service;
 
 import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.model.DropzoneIndex;
+import com.skydiveforecast.domain.model.NearbyDropzone;
 import com.skydiveforecast.domain.port.out.DropzoneClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -18,20 +25,80 @@ public class DropzoneService {
 
     private final DropzoneClient dropzoneClient;
 
+    // index of the catalog list it was built from; the client hands out the same list until it changes
+    private volatile IndexedCatalog indexedCatalog = new IndexedCatalog(List.of(), DropzoneIndex.EMPTY);
+
+    // lets scheduled and Kafka-driven work load the catalog before any user request has
+    @Value("${location.service.service-token:}")
+    private String serviceToken;
+
     public List<Dropzone> getAllDropzones() {
         String jwtToken = extractJwtFromSecurityContext();
         log.debug("Fetching dropzones with JWT token");
         return dropzoneClient.getDropzones(jwtToken);
     }
 
+    // for work without a user behind it: the catalog in memory, or a load with the service token
+    public List<Dropzone> getCatalogWithoutUser() {
+        List<Dropzone> cached = dropzoneClient.getCachedDropzones();
+        if (cached.isEmpty() && serviceToken != null && !serviceToken.isBlank()) {
+            return dropzoneClient.getDropzones(serviceToken);
+        }
+        return cached;
+    }
+
+    // report requests name airports by dropzone id or name, case-insensitive; unknown codes are left out.
+    // An empty catalog was never loaded, and would make every code unknown
+    public Map<String, Dropzone> resolveAirportCodes(Collection<String> codes) {
+        List<Dropzone> catalog = getCatalogWithoutUser();
+        if (catalog.isEmpty()) {
+            throw new DropzoneCatalogUnavailableException();
+        }
+        Map<String, Dropzone> byCode = new LinkedHashMap<>();
+        for (Dropzone dropzone : catalog) {
+            if (dropzone.getId() != null) {
+                byCode.putIfAbsent(dropzone.getId().toString(), dropzone);
+            }
+            if (dropzone.getName() != null) {
+                byCode.putIfAbsent(dropzone.getName().toLowerCase(Locale.ROOT), dropzone);
+            }
+        }
+
+        Map<String, Dropzone> resolved = new LinkedHashMap<>();
+        for (String code : codes) {
+            Dropzone dropzone = byCode.get(code.trim().toLowerCase(Locale.ROOT));
+            if (dropzone != null) {
+                resolved.put(code, dropzone);
+            }
+        }
+        return resolved;
+    }
+
+    public List<NearbyDropzone> findNearby(double latitude, double longitude, double radiusKm, int limit) {
+        List<Dropzone> catalog = getAllDropzones();
+        IndexedCatalog indexed = indexedCatalog;
+        if (indexed.catalog() != catalog) {
+            indexed = new IndexedCatalog(catalog, new DropzoneIndex(catalog));
+            indexedCatalog = indexed;
+            log.debug("Rebuilt dropzone index with {} dropzones", indexed.index().size());
+        }
+        return indexed.index().nearest(latitude, longitude, radiusKm, limit);
+    }
+
+    // must run on the request thread: the security context is thread-bound, also on virtual threads,
+    // so the token is captured here and passed explicitly to anything that may run elsewhere
     private String extractJwtFromSecurityContext() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        
-        if (authentication == null || !(authentication.getPrincipal() instanceof Jwt)) {
-            throw new IllegalStateException("No JWT token found in security context");
+
+        if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
+            return jwt.getTokenValue();
+        }
+        if (authentication != null && authentication.getCredentials() instanceof String token && !token.isBlank()) {
+            return token;
         }
-        
-        Jwt jwt = (Jwt) authentication.getPrincipal();
-        return jwt.getTokenValue();
+
+        throw new IllegalStateException("No JWT token found in security context");
     }
-}
\ No newline at end of file
+
+    private record IndexedCatalog(List<Dropzone> catalog, DropzoneIndex index) {}
+}
@@ -0,0 +1,60 @@
+package com.skydiveforecast.application.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Recent forecast requests per ~11 km bucket, so work for busy areas can be done first. Clients send GPS
+// positions around a dropzone rather than its exact coordinates, hence buckets coarser than the model grid.
+// decay() halves every count, so demand fades over a few cycles once requests stop.
+@Component
+public class ForecastDemandTracker {
+
+    private static final double BUCKET_DEG = 0.1;
+    // far more areas than there are dropzones; new areas beyond it are not tracked until decay() frees some
+    static final int MAX_BUCKETS = 10_000;
+
+    private final Map<Long, AtomicLong> requestsByBucket = new ConcurrentHashMap<>();
+
+    public void record(double latitude, double longitude) {
+        if (!isValid(latitude, longitude)) {
+            return;
+        }
+        long bucket = bucket(latitude, longitude);
+        AtomicLong requests = requestsByBucket.get(bucket);
+        if (requests == null) {
+            if (requestsByBucket.size() >= MAX_BUCKETS) {
+                return;
+            }
+            requests = requestsByBucket.computeIfAbsent(bucket, b -> new AtomicLong());
+        }
+        requests.incrementAndGet();
+    }
+
+    public long demand(double latitude, double longitude) {
+        AtomicLong requests = requestsByBucket.get(bucket(latitude, longitude));
+        return requests != null ? requests.get() : 0;
+    }
+
+    public void decay() {
+        requestsByBucket.values().forEach(requests -> requests.updateAndGet(count -> count / 2));
+        requestsByBucket.values().removeIf(requests -> requests.get() == 0);
+    }
+
+    int buckets() {
+        return requestsByBucket.size();
+    }
+
+    private static boolean isValid(double latitude, double longitude) {
+        return Double.isFinite(latitude) && Double.isFinite(longitude)
+                && Math.abs(latitude) <= 90 && Math.abs(longitude) <= 180;
+    }
+
+    private static long bucket(double latitude, double longitude) {
+        long latitudeIndex = Math.round(latitude / BUCKET_DEG);
+        long longitudeIndex = Math.round(longitude / BUCKET_DEG);
+        return (latitudeIndex << 32) ^ (longitudeIndex & 0xFFFF_FFFFL);
+    }
+}
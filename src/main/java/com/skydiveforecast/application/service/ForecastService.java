@@ -2,9 +2,13 @@ package com.skydiveforecast.application.service;
 
 import com.skydiveforecast.domain.port.out.WeatherForecastPort;
 import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.GeoPoint;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 @Service
@@ -17,6 +21,37 @@ public class ForecastService {
     }
 
     public Forecast getForecast(double latitude, double longitude, LocalDate date) {
-        return weatherForecastPort.getHourlyForecast(latitude, longitude, date);
+        return weatherForecastPort.getHourlyForecast(latitude, longitude, date).at(latitude, longitude);
+    }
+
+    public List<Forecast> getForecasts(List<GeoPoint> locations, LocalDate date) {
+        return atRequestedLocations(locations, weatherForecastPort.getHourlyForecasts(locations, date));
+    }
+
+    public Forecast getForecast(double latitude, double longitude, LocalDate startDate, LocalDate endDate) {
+        return weatherForecastPort.getHourlyForecast(latitude, longitude, startDate, endDate)
+                .at(latitude, longitude);
+    }
+
+    public List<Forecast> getForecasts(List<GeoPoint> locations, LocalDate startDate, LocalDate endDate) {
+        return atRequestedLocations(locations, weatherForecastPort.getHourlyForecasts(locations, startDate, endDate));
+    }
+
+    public Mono<Forecast> getForecastReactive(double latitude, double longitude, LocalDate date) {
+        return weatherForecastPort.getHourlyForecastReactive(latitude, longitude, date)
+                .map(forecast -> forecast.at(latitude, longitude));
+    }
+
+    // the port answers per grid cell; callers get their forecast back at the point they asked for
+    private static List<Forecast> atRequestedLocations(List<GeoPoint> locations, List<Forecast> forecasts) {
+        if (locations == null || forecasts.size() != locations.size()) {
+            return forecasts;
+        }
+        List<Forecast> relabeled = new ArrayList<>(forecasts.size());
+        for (int i = 0; i < forecasts.size(); i++) {
+            GeoPoint location = locations.get(i);
+            relabeled.add(forecasts.get(i).at(location.latitude(), location.longitude()));
+        }
+        return relabeled;
     }
 }
@@ -0,0 +1,102 @@
+package com.skydiveforecast.application.service;
+
+import com.skydiveforecast.domain.model.DailyJumpability;
+import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.model.DropzoneJumpability;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.GeoPoint;
+import com.skydiveforecast.domain.model.HourlySeries;
+import com.skydiveforecast.domain.model.JumpRules;
+import com.skydiveforecast.domain.model.Jumpability;
+import com.skydiveforecast.domain.model.JumpabilityChangedEvent;
+import com.skydiveforecast.domain.service.JumpabilityScorer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Keeps the latest assessment per dropzone. A newer forecast is diffed against it hour by hour, so only
+// changed hours and days are re-scored, and events go out only for days whose go/no-go actually flipped.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JumpabilityService {
+
+    private final ForecastService forecastService;
+    private final JumpabilityScorer scorer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, Assessment> latest = new ConcurrentHashMap<>();
+
+    public List<DropzoneJumpability> refresh(List<Dropzone> dropzones, LocalDate startDate, LocalDate endDate) {
+        List<Dropzone> positioned = dropzones.stream()
+                .filter(d -> d.getId() != null && d.getLatitude() != null && d.getLongitude() != null)
+                .toList();
+        if (positioned.isEmpty()) {
+            return List.of();
+        }
+
+        List<GeoPoint> locations = positioned.stream()
+                .map(d -> new GeoPoint(d.getLatitude().doubleValue(), d.getLongitude().doubleValue()))
+                .toList();
+        List<Forecast> forecasts = forecastService.getForecasts(locations, startDate, endDate);
+
+        List<DropzoneJumpability> results = new ArrayList<>(positioned.size());
+        for (int i = 0; i < positioned.size(); i++) {
+            results.add(new DropzoneJumpability(positioned.get(i), update(positioned.get(i), forecasts.get(i))));
+        }
+        return results;
+    }
+
+    public Jumpability update(Dropzone dropzone, Forecast forecast) {
+        HourlySeries series = forecast.series();
+        if (series.isEmpty()) {
+            // nothing new to compare against: keep the last assessment instead of flipping every day to no-go
+            return latest(dropzone.getId()).orElse(Jumpability.EMPTY);
+        }
+
+        JumpRules rules = JumpRules.forDropzone(dropzone);
+        Assessment[] previous = new Assessment[1];
+        Assessment current = latest.compute(dropzone.getId(), (id, last) -> {
+            previous[0] = last;
+            Jumpability jumpability = last != null && last.rules().equals(rules)
+                    ? scorer.rescore(last.series(), last.jumpability(), series, rules)
+                    : scorer.assess(series, rules);
+            return new Assessment(series, rules, jumpability);
+        });
+
+        if (previous[0] != null) {
+            publishFlips(dropzone, previous[0].jumpability(), current.jumpability());
+        }
+        return current.jumpability();
+    }
+
+    public Optional<Jumpability> latest(Long dropzoneId) {
+        return Optional.ofNullable(latest.get(dropzoneId)).map(Assessment::jumpability);
+    }
+
+    // days only one of the two runs covers are not flips
+    private void publishFlips(Dropzone dropzone, Jumpability previous, Jumpability current) {
+        Map<LocalDate, DailyJumpability> previousDays = new HashMap<>();
+        previous.days().forEach(day -> previousDays.put(day.date(), day));
+
+        for (DailyJumpability day : current.days()) {
+            DailyJumpability before = previousDays.get(day.date());
+            if (before != null && before.go() != day.go()) {
+                log.debug("Dropzone {} on {} flipped to {}", dropzone.getId(), day.date(), day.go() ? "go" : "no-go");
+                eventPublisher.publishEvent(new JumpabilityChangedEvent(
+                        dropzone.getId(), dropzone.getName(), day.date(), day.go(), day.score()));
+            }
+        }
+    }
+
+    private record Assessment(HourlySeries series, JumpRules rules, Jumpability jumpability) {}
+}
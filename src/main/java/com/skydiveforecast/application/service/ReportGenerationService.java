@@ -0,0 +1,158 @@
+package com.skydiveforecast.application.service;
+
+import com.skydiveforecast.application.service.ReportNarrativeService.AirportJumpability;
+import com.skydiveforecast.domain.model.AirportReport;
+import com.skydiveforecast.domain.model.DayNarrative;
+import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.GeoPoint;
+import com.skydiveforecast.domain.model.JumpRules;
+import com.skydiveforecast.domain.model.Jumpability;
+import com.skydiveforecast.domain.model.ReportRequest;
+import com.skydiveforecast.domain.model.ReportStatus;
+import com.skydiveforecast.domain.model.WeatherReport;
+import com.skydiveforecast.domain.service.JumpabilityScorer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Generates a batch of reports together: airport codes are resolved once for the whole batch, and every
+// dropzone is fetched and scored once per distinct date range, however many requests ask for it.
+// Fetches go through ForecastService's batch path, so overlapping days come from the forecast cache.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportGenerationService {
+
+    private final DropzoneService dropzoneService;
+    private final ForecastService forecastService;
+    private final JumpabilityScorer scorer;
+    private final ReportNarrativeService narrativeService;
+
+    public List<WeatherReport> generate(List<ReportRequest> requests) {
+        Set<String> codes = new LinkedHashSet<>();
+        requests.stream()
+                .filter(request -> validationError(request) == null)
+                .forEach(request -> codes.addAll(request.airportCodes()));
+        Map<String, Dropzone> dropzonesByCode;
+        try {
+            dropzonesByCode = codes.isEmpty() ? Map.of() : dropzoneService.resolveAirportCodes(codes);
+        } catch (DropzoneCatalogUnavailableException e) {
+            // failed rather than completed with every airport unknown, so the next submit generates it again
+            log.warn("Failing {} report requests: {}", requests.size(), e.getMessage());
+            return requests.stream()
+                    .map(request -> {
+                        String error = validationError(request);
+                        return WeatherReport.failed(request, error != null ? error : e.getMessage());
+                    })
+                    .toList();
+        }
+
+        Map<DateRange, Set<Dropzone>> dropzonesByRange = new LinkedHashMap<>();
+        for (ReportRequest request : requests) {
+            if (validationError(request) != null) {
+                continue;
+            }
+            Set<Dropzone> dropzones = dropzonesByRange.computeIfAbsent(
+                    new DateRange(request.startDate(), request.endDate()), range -> new LinkedHashSet<>());
+            request.airportCodes().stream()
+                    .map(dropzonesByCode::get)
+                    .filter(dropzone -> dropzone != null && hasPosition(dropzone))
+                    .forEach(dropzones::add);
+        }
+
+        Map<DateRange, Map<Long, Jumpability>> scored = new HashMap<>();
+        dropzonesByRange.forEach((range, dropzones) -> scored.put(range, score(range, List.copyOf(dropzones))));
+        log.debug("Scored {} dropzone ranges for {} report requests",
+                scored.values().stream().mapToInt(Map::size).sum(), requests.size());
+
+        // narratives for the whole batch at once, so the LLM sees many airports per call
+        List<AirportJumpability> airports = new ArrayList<>();
+        dropzonesByRange.forEach((range, dropzones) -> dropzones.forEach(dropzone -> {
+            Jumpability jumpability = scored.get(range).get(dropzone.getId());
+            if (jumpability != null) {
+                airports.add(new AirportJumpability(dropzone, jumpability));
+            }
+        }));
+        Map<AirportJumpability, List<DayNarrative>> narratives = narrativeService.narrate(airports);
+
+        Instant generatedAt = Instant.now();
+        return requests.stream()
+                .map(request -> report(request, dropzonesByCode, scored, narratives, generatedAt))
+                .toList();
+    }
+
+    private Map<Long, Jumpability> score(DateRange range, List<Dropzone> dropzones) {
+        if (dropzones.isEmpty()) {
+            return Map.of();
+        }
+        List<GeoPoint> locations = dropzones.stream()
+                .map(d -> new GeoPoint(d.getLatitude().doubleValue(), d.getLongitude().doubleValue()))
+                .toList();
+        List<Forecast> forecasts = forecastService.getForecasts(locations, range.startDate(), range.endDate());
+
+        Map<Long, Jumpability> jumpability = new HashMap<>();
+        for (int i = 0; i < dropzones.size(); i++) {
+            Dropzone dropzone = dropzones.get(i);
+            jumpability.put(dropzone.getId(), scorer.assess(forecasts.get(i).series(), JumpRules.forDropzone(dropzone)));
+        }
+        return jumpability;
+    }
+
+    private static WeatherReport report(ReportRequest request, Map<String, Dropzone> dropzonesByCode,
+                                        Map<DateRange, Map<Long, Jumpability>> scored,
+                                        Map<AirportJumpability, List<DayNarrative>> narratives,
+                                        Instant generatedAt) {
+        String error = validationError(request);
+        if (error != null) {
+            return WeatherReport.failed(request, error);
+        }
+
+        Map<Long, Jumpability> byDropzone = scored.getOrDefault(
+                new DateRange(request.startDate(), request.endDate()), Map.of());
+        List<AirportReport> airports = new ArrayList<>();
+        List<String> unknown = new ArrayList<>();
+        for (String code : request.airportCodes()) {
+            Dropzone dropzone = dropzonesByCode.get(code);
+            Jumpability jumpability = dropzone != null ? byDropzone.get(dropzone.getId()) : null;
+            if (jumpability == null) {
+                unknown.add(code);
+            } else {
+                airports.add(new AirportReport(code, dropzone.getId(), dropzone.getName(), jumpability.days(),
+                        jumpability.windows(),
+                        narratives.getOrDefault(new AirportJumpability(dropzone, jumpability), List.of())));
+            }
+        }
+        return new WeatherReport(request.requestId(), request.userId(), ReportStatus.COMPLETED, request.startDate(),
+                request.endDate(), generatedAt, airports, unknown, null);
+    }
+
+    private static String validationError(ReportRequest request) {
+        if (request.startDate() == null || request.endDate() == null) {
+            return "startDate and endDate are required";
+        }
+        if (request.endDate().isBefore(request.startDate())) {
+            return "endDate " + request.endDate() + " is before startDate " + request.startDate();
+        }
+        if (request.airportCodes() == null || request.airportCodes().isEmpty()) {
+            return "airportCodes must not be empty";
+        }
+        return null;
+    }
+
+    private static boolean hasPosition(Dropzone dropzone) {
+        return dropzone.getId() != null && dropzone.getLatitude() != null && dropzone.getLongitude() != null;
+    }
+
+    private record DateRange(LocalDate startDate, LocalDate endDate) {}
+}
@@ -0,0 +1,268 @@
+package com.skydiveforecast.application.service;
+
+import com.skydiveforecast.domain.model.DailyJumpability;
+import com.skydiveforecast.domain.model.DayNarrative;
+import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.model.Jumpability;
+import com.skydiveforecast.infrastructure.ai.LlmCallGuard;
+import com.skydiveforecast.infrastructure.config.CacheConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// One short narrative per airport and day for generated reports. Narratives are cached per dropzone and
+// day, keyed by the day's scored summary, so they last until the next model run changes the summary.
+// The missing ones are packed, whole airports at a time, into as few prompts as the token budget allows;
+// each prompt asks for JSON that maps back to its airports. Narratives are best effort: a failed call
+// leaves its airports without them instead of failing the report.
+@Slf4j
+@Service
+public class ReportNarrativeService {
+
+    private static final String SYSTEM_PROMPT = "You are a skydiving weather advisor. For every airport and day "
+            + "listed, write one short sentence for jumpers from that day's summary only, naming the best local "
+            + "times or why it is no-go. Scores are 0-100; 0 means no-go.";
+    private static final String HEADER = "Airports (#id name, then one line per day: date, go/no-go, "
+            + "score 0-100, go hours, jump windows hh-hh:score):\n";
+    // rough count for English text and dates; only used to size prompts
+    private static final int CHARS_PER_TOKEN = 4;
+    private static final int MAX_NARRATIVE_LENGTH = 300;
+
+    private final ChatClient chatClient;
+    private final LlmCallGuard callGuard;
+    private final Cache narrativeCache;
+    private final String model;
+    private final int fixedPromptTokens;
+
+    private final Counter cached;
+    private final Counter generated;
+    private final Counter missing;
+    private final Counter calls;
+
+    @Value("${reports.narratives.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reports.narratives.max-prompt-tokens:3000}")
+    private int maxPromptTokens;
+
+    @Value("${reports.narratives.concurrency:2}")
+    private int concurrency;
+
+    @Value("${reports.narratives.timeout:PT2M}")
+    private Duration timeout;
+
+    @Autowired
+    public ReportNarrativeService(ChatClient chatClient, LlmCallGuard callGuard, CacheManager cacheManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${spring.ai.openai.chat.options.model:default}") String model) {
+        this.chatClient = chatClient;
+        this.callGuard = callGuard;
+        this.narrativeCache = cacheManager.getCache(CacheConfig.AI_NARRATIVE_CACHE);
+        this.model = model;
+        // ChatClient appends the JSON schema instructions to every prompt
+        this.fixedPromptTokens = estimateTokens(SYSTEM_PROMPT + HEADER
+                + new BeanOutputConverter<>(NarrativeBatch.class).getFormat());
+
+        this.cached = Counter.builder("ai.narratives").tag("result", "cached").register(meterRegistry);
+        this.generated = Counter.builder("ai.narratives").tag("result", "generated").register(meterRegistry);
+        this.missing = Counter.builder("ai.narratives").tag("result", "missing").register(meterRegistry);
+        this.calls = Counter.builder("ai.narratives.calls").tag("model", model).register(meterRegistry);
+    }
+
+    public Map<AirportJumpability, List<DayNarrative>> narrate(List<AirportJumpability> airports) {
+        if (!enabled || airports.isEmpty()) {
+            return Map.of();
+        }
+
+        // batches complete concurrently
+        Map<String, String> narratives = new ConcurrentHashMap<>();
+        Set<String> seen = new HashSet<>();
+        Map<Long, PendingAirport> pendingByDropzone = new LinkedHashMap<>();
+        for (AirportJumpability airport : airports) {
+            for (DailyJumpability day : airport.jumpability().days()) {
+                String line = dayLine(airport.jumpability(), day);
+                String key = cacheKey(airport.dropzone(), day.date(), line);
+                // a day in the ranges of several requests is looked up and asked for once
+                if (!seen.add(key)) {
+                    continue;
+                }
+                String narrative = narrativeCache.get(key, String.class);
+                if (narrative != null) {
+                    cached.increment();
+                    narratives.put(key, narrative);
+                    continue;
+                }
+                PendingAirport pending = pendingByDropzone.get(airport.dropzone().getId());
+                if (pending == null) {
+                    pending = new PendingAirport(pendingByDropzone.size(), airport.dropzone(), new ArrayList<>());
+                    pendingByDropzone.put(airport.dropzone().getId(), pending);
+                }
+                pending.days().add(new PendingDay(day.date(), line, key));
+            }
+        }
+
+        if (!pendingByDropzone.isEmpty()) {
+            List<PendingAirport> pending = List.copyOf(pendingByDropzone.values());
+            List<List<PendingAirport>> batches = pack(pending);
+            log.debug("Requesting narratives for {} airports in {} calls", pending.size(), batches.size());
+            try {
+                Flux.fromIterable(batches)
+                        .flatMap(batch -> Mono.fromFuture(() -> callGuard.call(null, () -> call(batch)))
+                                .map(response -> apply(batch, response, narratives))
+                                .onErrorResume(e -> {
+                                    log.warn("Narratives for {} airports failed: {}", batch.size(), e.toString());
+                                    return Mono.just(0);
+                                }), concurrency)
+                        .then()
+                        .block(timeout);
+            } catch (IllegalStateException e) {
+                log.warn("Narratives not complete within {}", timeout);
+            }
+        }
+
+        Map<AirportJumpability, List<DayNarrative>> result = new HashMap<>();
+        for (AirportJumpability airport : airports) {
+            List<DayNarrative> days = new ArrayList<>();
+            for (DailyJumpability day : airport.jumpability().days()) {
+                String text = narratives.get(cacheKey(airport.dropzone(), day.date(),
+                        dayLine(airport.jumpability(), day)));
+                if (text != null) {
+                    days.add(new DayNarrative(day.date(), text));
+                } else {
+                    missing.increment();
+                }
+            }
+            result.put(airport, days);
+        }
+        return result;
+    }
+
+    // first fit in request order; an airport over the budget on its own still gets a call to itself
+    List<List<PendingAirport>> pack(List<PendingAirport> airports) {
+        List<List<PendingAirport>> batches = new ArrayList<>();
+        List<PendingAirport> batch = new ArrayList<>();
+        int tokens = fixedPromptTokens;
+        for (PendingAirport airport : airports) {
+            int airportTokens = estimateTokens(airportBlock(airport));
+            if (!batch.isEmpty() && tokens + airportTokens > maxPromptTokens) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                tokens = fixedPromptTokens;
+            }
+            batch.add(airport);
+            tokens += airportTokens;
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private NarrativeBatch call(List<PendingAirport> batch) {
+        calls.increment();
+        StringBuilder text = new StringBuilder(HEADER);
+        for (PendingAirport airport : batch) {
+            text.append(airportBlock(airport));
+        }
+        return chatClient.prompt()
+                .system(SYSTEM_PROMPT)
+                .user(text.toString())
+                .call()
+                .entity(NarrativeBatch.class);
+    }
+
+    private int apply(List<PendingAirport> batch, NarrativeBatch response, Map<String, String> narratives) {
+        if (response == null || response.airports() == null) {
+            return 0;
+        }
+        Map<Integer, PendingAirport> byIndex = new HashMap<>();
+        batch.forEach(airport -> byIndex.put(airport.index(), airport));
+        int applied = 0;
+        for (AirportNarratives airport : response.airports()) {
+            PendingAirport asked = airport != null ? byIndex.get(airport.id()) : null;
+            if (asked == null || airport.days() == null) {
+                continue;
+            }
+            for (DayText day : airport.days()) {
+                PendingDay askedDay = day != null ? asked.day(day.date()) : null;
+                if (askedDay == null || day.text() == null || day.text().isBlank()) {
+                    continue;
+                }
+                String text = day.text().strip();
+                text = text.length() > MAX_NARRATIVE_LENGTH ? text.substring(0, MAX_NARRATIVE_LENGTH) : text;
+                narratives.put(askedDay.cacheKey(), text);
+                narrativeCache.put(askedDay.cacheKey(), text);
+                generated.increment();
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    private static String airportBlock(PendingAirport airport) {
+        StringBuilder text = new StringBuilder();
+        text.append('#').append(airport.index()).append(' ').append(airport.dropzone().getName()).append('\n');
+        for (PendingDay day : airport.days()) {
+            text.append(day.line()).append('\n');
+        }
+        return text.toString();
+    }
+
+    private static String dayLine(Jumpability jumpability, DailyJumpability day) {
+        StringBuilder line = new StringBuilder(48);
+        AnalysisPromptAssembler.appendDay(line, day, jumpability.windows());
+        return line.toString();
+    }
+
+    private String cacheKey(Dropzone dropzone, LocalDate date, String line) {
+        return dropzone.getId() + ":" + date + ":" + AnalysisPromptAssembler.sha256(
+                AnalysisPromptAssembler.TEMPLATE_VERSION + '\n' + model + '\n' + line).substring(0, 16);
+    }
+
+    private static int estimateTokens(String text) {
+        return (text.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+    }
+
+    public record AirportJumpability(Dropzone dropzone, Jumpability jumpability) {}
+
+    record PendingAirport(int index, Dropzone dropzone, List<PendingDay> days) {
+
+        PendingDay day(String date) {
+            for (PendingDay day : days) {
+                if (day.date().toString().equals(date)) {
+                    return day;
+                }
+            }
+            return null;
+        }
+    }
+
+    record PendingDay(LocalDate date, String line, String cacheKey) {}
+
+    // the structured output the model is asked for; dates as in the prompt, yyyy-MM-dd
+    record NarrativeBatch(List<AirportNarratives> airports) {}
+
+    record AirportNarratives(int id, List<DayText> days) {}
+
+    record DayText(String date, String text) {}
+}
@@ -0,0 +1,98 @@
+package com.skydiveforecast.application.service;
+
+import com.skydiveforecast.domain.model.ReportRecord;
+import com.skydiveforecast.domain.model.WeatherReport;
+import com.skydiveforecast.domain.port.out.ReportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Stores generated reports and wakes long-polling readers. Reports saved by this instance wake their
+// readers at once; for reports generated elsewhere one query per sweep checks every waiting report,
+// so the database sees the same load however many clients are waiting.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportService {
+
+    private final ReportRepository reportRepository;
+
+    private final Map<String, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+
+    public Optional<ReportRecord> find(String id) {
+        return reportRepository.findById(id);
+    }
+
+    public void saveResults(List<WeatherReport> reports) {
+        reportRepository.saveAll(reports.stream().map(ReportRecord::of).toList());
+        List<String> watched = reports.stream()
+                .map(WeatherReport::requestId)
+                .filter(waiters::containsKey)
+                .toList();
+        if (!watched.isEmpty()) {
+            notifyWaiters(reportRepository.findAllById(watched));
+        }
+    }
+
+    // completes with the report once its version is past knownVersion, or with null after the timeout
+    public CompletableFuture<ReportRecord> awaitChange(String id, long knownVersion, Duration timeout) {
+        Waiter waiter = new Waiter(knownVersion, new CompletableFuture<>());
+        waiters.computeIfAbsent(id, key -> ConcurrentHashMap.newKeySet()).add(waiter);
+        CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS, Runnable::run)
+                .execute(() -> finish(id, waiter, null));
+        // a reader that gives up cancels its future
+        waiter.future().whenComplete((report, error) -> removeWaiter(id, waiter));
+        return waiter.future();
+    }
+
+    @Scheduled(fixedDelayString = "${reports.long-poll.sweep-interval:PT2S}")
+    public void sweep() {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        notifyWaiters(reportRepository.findAllById(Set.copyOf(waiters.keySet())));
+    }
+
+    int waiting() {
+        return waiters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void notifyWaiters(List<ReportRecord> reports) {
+        for (ReportRecord report : reports) {
+            Set<Waiter> forReport = waiters.get(report.id());
+            if (forReport != null) {
+                forReport.stream()
+                        .filter(waiter -> report.version() > waiter.knownVersion())
+                        .forEach(waiter -> finish(report.id(), waiter, report));
+            }
+        }
+    }
+
+    // removed before it completes, so whoever sees the result also sees it gone; only the remover completes it
+    private void finish(String id, Waiter waiter, ReportRecord report) {
+        if (removeWaiter(id, waiter)) {
+            waiter.future().complete(report);
+        }
+    }
+
+    private boolean removeWaiter(String id, Waiter waiter) {
+        boolean[] removed = {false};
+        waiters.computeIfPresent(id, (key, set) -> {
+            removed[0] = set.remove(waiter);
+            return set.isEmpty() ? null : set;
+        });
+        return removed[0];
+    }
+
+    private record Waiter(long knownVersion, CompletableFuture<ReportRecord> future) {}
+}
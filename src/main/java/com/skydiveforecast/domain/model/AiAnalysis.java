@@ -0,0 +1,11 @@
+package com.skydiveforecast.domain.model;
+
+import java.time.Instant;
+
+public record AiAnalysis(
+        String content,
+        String model,
+        int promptTokens,
+        int completionTokens,
+        Instant generatedAt
+) {}
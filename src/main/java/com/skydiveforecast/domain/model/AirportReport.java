@@ -0,0 +1,13 @@
+package com.skydiveforecast.domain.model;
+
+import java.util.List;
+
+public record AirportReport(
+        String code,
+        Long dropzoneId,
+        String name,
+        List<DailyJumpability> days,
+        List<JumpWindow> windows,
+        // one short text per day where one could be generated, empty when narratives are off
+        List<DayNarrative> narratives
+) {}
@@ -0,0 +1,4 @@
+package com.skydiveforecast.domain.model;
+
+// text is what the model is sent; cacheKey is its canonical hash, equal for equal prompts
+public record AnalysisPrompt(String text, String cacheKey) {}
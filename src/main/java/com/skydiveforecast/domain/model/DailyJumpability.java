@@ -0,0 +1,11 @@
+package com.skydiveforecast.domain.model;
+
+import java.time.LocalDate;
+
+// score is the mean over the operating hours; a day is go when it has at least one jump window
+public record DailyJumpability(
+        LocalDate date,
+        int score,
+        int goHours,
+        boolean go
+) {}
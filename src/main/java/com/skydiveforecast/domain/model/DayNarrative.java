@@ -0,0 +1,8 @@
+package com.skydiveforecast.domain.model;
+
+import java.time.LocalDate;
+
+public record DayNarrative(
+        LocalDate date,
+        String text
+) {}
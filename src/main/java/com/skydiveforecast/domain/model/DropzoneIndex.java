@@ -0,0 +1,198 @@
+package com.skydiveforecast.domain.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// Immutable k-d tree over dropzone positions as 3D unit vectors. Straight-line (chord) distance between
+// unit vectors grows with great-circle distance, and a splitting plane's distance is a lower bound on it,
+// so subtrees can be pruned exactly, including across the antimeridian and near the poles.
+// Coordinates are converted from BigDecimal once, at build time; dropzones without a position are skipped.
+public final class DropzoneIndex {
+
+    public static final DropzoneIndex EMPTY = new DropzoneIndex(List.of());
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final Dropzone[] dropzones;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+
+    public DropzoneIndex(List<Dropzone> catalog) {
+        List<Dropzone> positioned = catalog.stream()
+                .filter(d -> d.getLatitude() != null && d.getLongitude() != null)
+                .toList();
+        int size = positioned.size();
+        dropzones = new Dropzone[size];
+        xs = new double[size];
+        ys = new double[size];
+        zs = new double[size];
+        for (int i = 0; i < size; i++) {
+            Dropzone dropzone = positioned.get(i);
+            double lat = Math.toRadians(dropzone.getLatitude().doubleValue());
+            double lon = Math.toRadians(dropzone.getLongitude().doubleValue());
+            dropzones[i] = dropzone;
+            xs[i] = Math.cos(lat) * Math.cos(lon);
+            ys[i] = Math.cos(lat) * Math.sin(lon);
+            zs[i] = Math.sin(lat);
+        }
+        build(0, size, 0);
+    }
+
+    public int size() {
+        return dropzones.length;
+    }
+
+    // nearest first, at most limit results within radiusKm
+    public List<NearbyDropzone> nearest(double latitude, double longitude, double radiusKm, int limit) {
+        if (limit <= 0 || radiusKm <= 0 || dropzones.length == 0) {
+            return List.of();
+        }
+
+        double lat = Math.toRadians(latitude);
+        double lon = Math.toRadians(longitude);
+        Query query = new Query(
+                Math.cos(lat) * Math.cos(lon),
+                Math.cos(lat) * Math.sin(lon),
+                Math.sin(lat),
+                chordForDistance(radiusKm),
+                limit);
+        search(query, 0, dropzones.length, 0);
+
+        List<NearbyDropzone> results = new ArrayList<>(query.best.size());
+        while (!query.best.isEmpty()) {
+            Candidate candidate = query.best.poll();
+            results.add(new NearbyDropzone(dropzones[candidate.index], distanceForChord(Math.sqrt(candidate.chordSq))));
+        }
+        return results.reversed();
+    }
+
+    // subtree [from, to) has its median at the middle index, split on axis depth % 3
+    private void build(int from, int to, int depth) {
+        if (to - from <= 1) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        select(from, to - 1, mid, depth % 3);
+        build(from, mid, depth + 1);
+        build(mid + 1, to, depth + 1);
+    }
+
+    private void search(Query query, int from, int to, int depth) {
+        if (from >= to) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        query.offer(mid, chordSq(query, mid));
+
+        double delta = coordinate(mid, depth % 3) - query.coordinate(depth % 3);
+        boolean queryOnLowSide = delta > 0;
+        search(query, queryOnLowSide ? from : mid + 1, queryOnLowSide ? mid : to, depth + 1);
+        if (delta * delta <= query.boundSq()) {
+            search(query, queryOnLowSide ? mid + 1 : from, queryOnLowSide ? to : mid, depth + 1);
+        }
+    }
+
+    private double chordSq(Query query, int i) {
+        double dx = xs[i] - query.x;
+        double dy = ys[i] - query.y;
+        double dz = zs[i] - query.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private double coordinate(int i, int axis) {
+        return axis == 0 ? xs[i] : axis == 1 ? ys[i] : zs[i];
+    }
+
+    // quickselect: afterwards the element at k is in sorted position on the axis
+    private void select(int left, int right, int k, int axis) {
+        while (left < right) {
+            double pivot = coordinate((left + right) >>> 1, axis);
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinate(i, axis) < pivot) i++;
+                while (coordinate(j, axis) > pivot) j--;
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int a, int b) {
+        Dropzone dropzone = dropzones[a];
+        dropzones[a] = dropzones[b];
+        dropzones[b] = dropzone;
+        double x = xs[a];
+        xs[a] = xs[b];
+        xs[b] = x;
+        double y = ys[a];
+        ys[a] = ys[b];
+        ys[b] = y;
+        double z = zs[a];
+        zs[a] = zs[b];
+        zs[b] = z;
+    }
+
+    private static double chordForDistance(double distanceKm) {
+        double angle = Math.min(distanceKm / EARTH_RADIUS_KM, Math.PI);
+        return 2 * Math.sin(angle / 2);
+    }
+
+    private static double distanceForChord(double chord) {
+        return 2 * Math.asin(Math.min(1.0, chord / 2)) * EARTH_RADIUS_KM;
+    }
+
+    private record Candidate(int index, double chordSq) {}
+
+    private static final class Query {
+
+        private final double x;
+        private final double y;
+        private final double z;
+        private final double radiusSq;
+        private final int limit;
+        // farthest of the current best candidates on top
+        private final PriorityQueue<Candidate> best =
+                new PriorityQueue<>(Comparator.comparingDouble(Candidate::chordSq).reversed());
+
+        private Query(double x, double y, double z, double radiusChord, int limit) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            // small tolerance so dropzones exactly on the radius are not lost to rounding
+            this.radiusSq = radiusChord * radiusChord * (1 + 1e-12);
+            this.limit = limit;
+        }
+
+        private void offer(int index, double chordSq) {
+            if (chordSq > radiusSq) {
+                return;
+            }
+            if (best.size() < limit) {
+                best.add(new Candidate(index, chordSq));
+            } else if (chordSq < best.peek().chordSq()) {
+                best.poll();
+                best.add(new Candidate(index, chordSq));
+            }
+        }
+
+        private double boundSq() {
+            return best.size() < limit ? radiusSq : Math.min(radiusSq, best.peek().chordSq());
+        }
+
+        private double coordinate(int axis) {
+            return axis == 0 ? x : axis == 1 ? y : z;
+        }
+    }
+}
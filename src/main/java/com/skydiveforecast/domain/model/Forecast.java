@@ -1,9 +1,80 @@
 package com.skydiveforecast.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.List;
+import java.util.Objects;
+
+// Hours are held column-wise in an HourlySeries; hours() is a WeatherPoint view kept for the API and JSON shape
+public final class Forecast {
+
+    private final double latitude;
+    private final double longitude;
+    private final HourlySeries series;
+
+    public Forecast(double latitude, double longitude, HourlySeries series) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.series = series;
+    }
+
+    @JsonCreator
+    public Forecast(@JsonProperty("latitude") double latitude,
+                    @JsonProperty("longitude") double longitude,
+                    @JsonProperty("hours") List<WeatherPoint> hours) {
+        this(latitude, longitude, hours == null || hours.isEmpty() ? HourlySeries.EMPTY : HourlySeries.fromPoints(hours));
+    }
+
+    public static Forecast empty(double latitude, double longitude) {
+        return new Forecast(latitude, longitude, HourlySeries.EMPTY);
+    }
+
+    // same hours, reported for another point (e.g. the requested one instead of its grid cell)
+    public Forecast at(double latitude, double longitude) {
+        if (Double.compare(latitude, this.latitude) == 0 && Double.compare(longitude, this.longitude) == 0) {
+            return this;
+        }
+        return new Forecast(latitude, longitude, series);
+    }
+
+    @JsonProperty("latitude")
+    public double latitude() {
+        return latitude;
+    }
+
+    @JsonProperty("longitude")
+    public double longitude() {
+        return longitude;
+    }
+
+    @JsonProperty("hours")
+    public List<WeatherPoint> hours() {
+        return series.asPoints();
+    }
+
+    @JsonIgnore
+    public HourlySeries series() {
+        return series;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Forecast that)) return false;
+        return Double.compare(latitude, that.latitude) == 0
+                && Double.compare(longitude, that.longitude) == 0
+                && series.equals(that.series);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(latitude, longitude, series);
+    }
 
-public record Forecast(
-        double latitude,
-        double longitude,
-        List<WeatherPoint> hours
-) {}
+    @Override
+    public String toString() {
+        return "Forecast[latitude=" + latitude + ", longitude=" + longitude + ", hours=" + series.size() + "]";
+    }
+}
@@ -0,0 +1,6 @@
+package com.skydiveforecast.domain.model;
+
+public record GeoPoint(
+        double latitude,
+        double longitude
+) {}
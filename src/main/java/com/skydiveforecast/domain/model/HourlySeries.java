@@ -0,0 +1,264 @@
+package com.skydiveforecast.domain.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+
+// Columnar hourly forecast. Times are local wall-clock times stored as epoch seconds at offset zero.
+// Missing doubles are NaN; missing visibility is flagged in a bitmap. Arrays are shared, never modify them.
+public final class HourlySeries {
+
+    public static final HourlySeries EMPTY = new HourlySeries(new long[0], new double[0], new double[0],
+            new double[0], new int[0], new int[0], new double[0], new int[0], new BitSet(), new double[0]);
+
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    private final long[] localEpochSeconds;
+    private final double[] temperatureC;
+    private final double[] windSpeed10m;
+    private final double[] windGusts10m;
+    private final int[] windDirectionDeg;
+    private final int[] cloudCoverPct;
+    private final double[] precipitationMm;
+    private final int[] visibilityM;
+    private final BitSet visibilityMissing;
+    private final double[] pressureHpa;
+
+    public HourlySeries(long[] localEpochSeconds, double[] temperatureC, double[] windSpeed10m,
+                        double[] windGusts10m, int[] windDirectionDeg, int[] cloudCoverPct,
+                        double[] precipitationMm, int[] visibilityM, BitSet visibilityMissing,
+                        double[] pressureHpa) {
+        int size = localEpochSeconds.length;
+        if (temperatureC.length != size || windSpeed10m.length != size || windGusts10m.length != size
+                || windDirectionDeg.length != size || cloudCoverPct.length != size
+                || precipitationMm.length != size || visibilityM.length != size || pressureHpa.length != size) {
+            throw new IllegalArgumentException("All hourly columns must have " + size + " values");
+        }
+        this.localEpochSeconds = localEpochSeconds;
+        this.temperatureC = temperatureC;
+        this.windSpeed10m = windSpeed10m;
+        this.windGusts10m = windGusts10m;
+        this.windDirectionDeg = windDirectionDeg;
+        this.cloudCoverPct = cloudCoverPct;
+        this.precipitationMm = precipitationMm;
+        this.visibilityM = visibilityM;
+        this.visibilityMissing = visibilityMissing;
+        this.pressureHpa = pressureHpa;
+    }
+
+    public static HourlySeries fromPoints(List<WeatherPoint> points) {
+        int size = points.size();
+        long[] times = new long[size];
+        double[] temperature = new double[size];
+        double[] windSpeed = new double[size];
+        double[] windGusts = new double[size];
+        int[] windDirection = new int[size];
+        int[] cloudCover = new int[size];
+        double[] precipitation = new double[size];
+        int[] visibility = new int[size];
+        BitSet visibilityMissing = new BitSet(size);
+        double[] pressure = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            WeatherPoint point = points.get(i);
+            times[i] = point.time().toEpochSecond(ZoneOffset.UTC);
+            temperature[i] = point.temperatureC();
+            windSpeed[i] = point.windSpeed10m();
+            windGusts[i] = point.windGusts10m();
+            windDirection[i] = point.windDirectionDeg();
+            cloudCover[i] = point.cloudCoverPct();
+            precipitation[i] = point.precipitationMm();
+            if (point.visibilityM() == null) {
+                visibilityMissing.set(i);
+            } else {
+                visibility[i] = point.visibilityM();
+            }
+            pressure[i] = point.pressureHpa() == null ? Double.NaN : point.pressureHpa();
+        }
+
+        return new HourlySeries(times, temperature, windSpeed, windGusts, windDirection, cloudCover,
+                precipitation, visibility, visibilityMissing, pressure);
+    }
+
+    public static HourlySeries concat(List<HourlySeries> parts) {
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+
+        int size = parts.stream().mapToInt(HourlySeries::size).sum();
+        long[] times = new long[size];
+        double[] temperature = new double[size];
+        double[] windSpeed = new double[size];
+        double[] windGusts = new double[size];
+        int[] windDirection = new int[size];
+        int[] cloudCover = new int[size];
+        double[] precipitation = new double[size];
+        int[] visibility = new int[size];
+        BitSet visibilityMissing = new BitSet(size);
+        double[] pressure = new double[size];
+
+        int offset = 0;
+        for (HourlySeries part : parts) {
+            int n = part.size();
+            System.arraycopy(part.localEpochSeconds, 0, times, offset, n);
+            System.arraycopy(part.temperatureC, 0, temperature, offset, n);
+            System.arraycopy(part.windSpeed10m, 0, windSpeed, offset, n);
+            System.arraycopy(part.windGusts10m, 0, windGusts, offset, n);
+            System.arraycopy(part.windDirectionDeg, 0, windDirection, offset, n);
+            System.arraycopy(part.cloudCoverPct, 0, cloudCover, offset, n);
+            System.arraycopy(part.precipitationMm, 0, precipitation, offset, n);
+            System.arraycopy(part.visibilityM, 0, visibility, offset, n);
+            System.arraycopy(part.pressureHpa, 0, pressure, offset, n);
+            for (int i = part.visibilityMissing.nextSetBit(0); i >= 0 && i < n;
+                 i = part.visibilityMissing.nextSetBit(i + 1)) {
+                visibilityMissing.set(offset + i);
+            }
+            offset += n;
+        }
+
+        return new HourlySeries(times, temperature, windSpeed, windGusts, windDirection, cloudCover,
+                precipitation, visibility, visibilityMissing, pressure);
+    }
+
+    // hours [from, to)
+    public HourlySeries slice(int from, int to) {
+        if (from == 0 && to == size()) {
+            return this;
+        }
+        return new HourlySeries(
+                Arrays.copyOfRange(localEpochSeconds, from, to),
+                Arrays.copyOfRange(temperatureC, from, to),
+                Arrays.copyOfRange(windSpeed10m, from, to),
+                Arrays.copyOfRange(windGusts10m, from, to),
+                Arrays.copyOfRange(windDirectionDeg, from, to),
+                Arrays.copyOfRange(cloudCoverPct, from, to),
+                Arrays.copyOfRange(precipitationMm, from, to),
+                Arrays.copyOfRange(visibilityM, from, to),
+                visibilityMissing.get(from, to),
+                Arrays.copyOfRange(pressureHpa, from, to));
+    }
+
+    public int size() {
+        return localEpochSeconds.length;
+    }
+
+    public boolean isEmpty() {
+        return localEpochSeconds.length == 0;
+    }
+
+    // days since 1970-01-01 of the local date of hour i
+    public long localEpochDay(int i) {
+        return Math.floorDiv(localEpochSeconds[i], SECONDS_PER_DAY);
+    }
+
+    public LocalDateTime time(int i) {
+        return LocalDateTime.ofEpochSecond(localEpochSeconds[i], 0, ZoneOffset.UTC);
+    }
+
+    public boolean hasVisibility(int i) {
+        return !visibilityMissing.get(i);
+    }
+
+    // next hour at or after from without visibility, or -1
+    public int nextMissingVisibility(int from) {
+        int next = visibilityMissing.nextSetBit(from);
+        return next < size() ? next : -1;
+    }
+
+    public long[] localEpochSeconds() {
+        return localEpochSeconds;
+    }
+
+    public double[] temperatureC() {
+        return temperatureC;
+    }
+
+    public double[] windSpeed10m() {
+        return windSpeed10m;
+    }
+
+    public double[] windGusts10m() {
+        return windGusts10m;
+    }
+
+    public int[] windDirectionDeg() {
+        return windDirectionDeg;
+    }
+
+    public int[] cloudCoverPct() {
+        return cloudCoverPct;
+    }
+
+    public double[] precipitationMm() {
+        return precipitationMm;
+    }
+
+    public int[] visibilityM() {
+        return visibilityM;
+    }
+
+    public double[] pressureHpa() {
+        return pressureHpa;
+    }
+
+    public WeatherPoint point(int i) {
+        return new WeatherPoint(
+                time(i),
+                temperatureC[i],
+                windSpeed10m[i],
+                windGusts10m[i],
+                windDirectionDeg[i],
+                cloudCoverPct[i],
+                precipitationMm[i],
+                hasVisibility(i) ? visibilityM[i] : null,
+                Double.isNaN(pressureHpa[i]) ? null : pressureHpa[i]
+        );
+    }
+
+    // record view materialized one WeatherPoint at a time, on access
+    public List<WeatherPoint> asPoints() {
+        return new PointView();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof HourlySeries that)) return false;
+        return Arrays.equals(localEpochSeconds, that.localEpochSeconds)
+                && Arrays.equals(temperatureC, that.temperatureC)
+                && Arrays.equals(windSpeed10m, that.windSpeed10m)
+                && Arrays.equals(windGusts10m, that.windGusts10m)
+                && Arrays.equals(windDirectionDeg, that.windDirectionDeg)
+                && Arrays.equals(cloudCoverPct, that.cloudCoverPct)
+                && Arrays.equals(precipitationMm, that.precipitationMm)
+                && Arrays.equals(visibilityM, that.visibilityM)
+                && visibilityMissing.equals(that.visibilityMissing)
+                && Arrays.equals(pressureHpa, that.pressureHpa);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(localEpochSeconds);
+        result = 31 * result + Arrays.hashCode(windSpeed10m);
+        result = 31 * result + Arrays.hashCode(windGusts10m);
+        result = 31 * result + Arrays.hashCode(cloudCoverPct);
+        return result;
+    }
+
+    private final class PointView extends AbstractList<WeatherPoint> implements RandomAccess {
+
+        @Override
+        public WeatherPoint get(int index) {
+            return point(index);
+        }
+
+        @Override
+        public int size() {
+            return HourlySeries.this.size();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.skydiveforecast.domain.model;
+
+// Go/no-go limits for one dropzone. Wind speeds are km/h as delivered by Open-Meteo; an hour whose worst
+// factor reaches its limit is no-go. Only hours in [firstHour, lastHour) local time form jump windows.
+public record JumpRules(
+        double maxWindSpeedKmh,
+        double maxWindGustKmh,
+        double maxGustSpreadKmh,
+        int maxCloudCoverPct,
+        int minVisibilityM,
+        double maxPrecipitationMm,
+        int firstHour,
+        int lastHour,
+        int minWindowHours
+) {
+
+    public static final JumpRules STANDARD = new JumpRules(40, 45, 18, 80, 5000, 0.3, 7, 21, 2);
+
+    // wingsuit flights exit higher and navigate visually, so clouds and visibility are tighter
+    public static final JumpRules WINGSUIT = new JumpRules(35, 40, 15, 50, 8000, 0.1, 8, 20, 2);
+
+    public JumpRules {
+        if (maxWindSpeedKmh <= 0 || maxWindGustKmh <= 0 || maxGustSpreadKmh <= 0
+                || maxCloudCoverPct <= 0 || minVisibilityM < 0 || maxPrecipitationMm <= 0) {
+            throw new IllegalArgumentException("Jump limits must be positive");
+        }
+        if (firstHour < 0 || lastHour > 24 || firstHour >= lastHour || minWindowHours < 1) {
+            throw new IllegalArgumentException("Invalid operating hours " + firstHour + "-" + lastHour
+                    + " or minimum window " + minWindowHours);
+        }
+    }
+
+    public static JumpRules forDropzone(Dropzone dropzone) {
+        return Boolean.TRUE.equals(dropzone.getIsWingsuitFriendly()) ? WINGSUIT : STANDARD;
+    }
+}
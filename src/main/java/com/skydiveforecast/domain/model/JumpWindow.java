@@ -0,0 +1,16 @@
+package com.skydiveforecast.domain.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// consecutive go hours, end exclusive, local time; score is the mean hourly score
+public record JumpWindow(
+        LocalDateTime start,
+        LocalDateTime end,
+        int score
+) {
+
+    public int hours() {
+        return (int) Duration.between(start, end).toHours();
+    }
+}
@@ -0,0 +1,17 @@
+package com.skydiveforecast.domain.model;
+
+import java.util.List;
+
+// hourlyScores is parallel to the scored HourlySeries: 0 is no-go, 1..100 is go
+public record Jumpability(
+        int[] hourlyScores,
+        List<DailyJumpability> days,
+        List<JumpWindow> windows
+) {
+
+    public static final Jumpability EMPTY = new Jumpability(new int[0], List.of(), List.of());
+
+    public boolean isGo(int hour) {
+        return hourlyScores[hour] > 0;
+    }
+}
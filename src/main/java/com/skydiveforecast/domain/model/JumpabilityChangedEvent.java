@@ -0,0 +1,12 @@
+package com.skydiveforecast.domain.model;
+
+import java.time.LocalDate;
+
+// published when a newer forecast flips a dropzone's day between go and no-go
+public record JumpabilityChangedEvent(
+        Long dropzoneId,
+        String dropzoneName,
+        LocalDate date,
+        boolean go,
+        int score
+) {}
@@ -0,0 +1,42 @@
+package com.skydiveforecast.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TreeSet;
+
+// Content address of a report request: the SHA-256 of the date range and the sorted, de-duplicated,
+// case-folded airport codes. Equal requests get equal keys whoever sends them and in whatever order.
+public final class ReportKey {
+
+    private static final String VERSION = "v1";
+
+    private ReportKey() {
+    }
+
+    public static String of(LocalDate startDate, LocalDate endDate, Collection<String> airportCodes) {
+        TreeSet<String> codes = new TreeSet<>();
+        if (airportCodes != null) {
+            airportCodes.stream()
+                    .filter(Objects::nonNull)
+                    .map(code -> code.trim().toLowerCase(Locale.ROOT))
+                    .filter(code -> !code.isEmpty())
+                    .forEach(codes::add);
+        }
+        String canonical = VERSION + '|' + startDate + '|' + endDate + '|' + String.join(",", codes);
+        return HexFormat.of().formatHex(sha256(canonical));
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
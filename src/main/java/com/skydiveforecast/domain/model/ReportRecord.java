@@ -0,0 +1,49 @@
+package com.skydiveforecast.domain.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// A stored report request and, once generated, its result. version grows with every write. A report is
+// shared by everyone who asked for the same airports and dates, so it names none of them: submitters are
+// kept apart (ReportRepository.addSubmitter) and the stored result carries no user id.
+public record ReportRecord(
+        String id,
+        ReportStatus status,
+        LocalDate startDate,
+        LocalDate endDate,
+        List<String> airportCodes,
+        WeatherReport result,
+        String error,
+        long version,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public static ReportRecord pending(String id, LocalDate startDate, LocalDate endDate, List<String> airportCodes,
+                                       Instant now) {
+        return new ReportRecord(id, ReportStatus.PENDING, startDate, endDate, airportCodes, null, null,
+                1, now, now);
+    }
+
+    public static ReportRecord of(WeatherReport report) {
+        List<String> codes = new ArrayList<>();
+        report.airports().forEach(airport -> codes.add(airport.code()));
+        codes.addAll(report.unknownAirports());
+        WeatherReport result = report.status() == ReportStatus.COMPLETED
+                ? new WeatherReport(report.requestId(), null, report.status(), report.startDate(), report.endDate(),
+                        report.generatedAt(), report.airports(), report.unknownAirports(), report.error())
+                : null;
+        return new ReportRecord(report.requestId(), report.status(), report.startDate(), report.endDate(), codes,
+                result, report.error(), 1, report.generatedAt(), report.generatedAt());
+    }
+
+    public boolean isDone() {
+        return status != ReportStatus.PENDING;
+    }
+
+    public String etag() {
+        return "\"" + version + "\"";
+    }
+}
@@ -0,0 +1,12 @@
+package com.skydiveforecast.domain.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ReportRequest(
+        String requestId,
+        String userId,
+        LocalDate startDate,
+        LocalDate endDate,
+        List<String> airportCodes
+) {}
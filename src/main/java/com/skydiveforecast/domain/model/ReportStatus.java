@@ -0,0 +1,7 @@
+package com.skydiveforecast.domain.model;
+
+public enum ReportStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
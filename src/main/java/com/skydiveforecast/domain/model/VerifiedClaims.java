@@ -0,0 +1,18 @@
+package com.skydiveforecast.domain.model;
+
+import java.time.Instant;
+import java.util.Set;
+
+// Claims of a token whose signature has already been checked
+public record VerifiedClaims(
+        String username,
+        Long userId,
+        Set<String> roles,
+        Set<String> permissions,
+        Instant expiresAt
+) {
+
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,24 @@
+package com.skydiveforecast.domain.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+// error is set only for FAILED reports; airport codes matching no dropzone are listed in unknownAirports
+public record WeatherReport(
+        String requestId,
+        String userId,
+        ReportStatus status,
+        LocalDate startDate,
+        LocalDate endDate,
+        Instant generatedAt,
+        List<AirportReport> airports,
+        List<String> unknownAirports,
+        String error
+) {
+
+    public static WeatherReport failed(ReportRequest request, String error) {
+        return new WeatherReport(request.requestId(), request.userId(), ReportStatus.FAILED, request.startDate(),
+                request.endDate(), Instant.now(), List.of(), List.of(), error);
+    }
+}
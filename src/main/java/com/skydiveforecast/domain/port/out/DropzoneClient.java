@@ -6,4 +6,7 @@ import java.util.List;
 
 public interface DropzoneClient {
     List<Dropzone> getDropzones(String jwtToken);
+
+    // the catalog already held in memory, without a call or a token check; empty until first loaded
+    List<Dropzone> getCachedDropzones();
 }
\ No newline at end of file
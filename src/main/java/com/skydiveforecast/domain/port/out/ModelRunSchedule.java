@@ -0,0 +1,9 @@
+package com.skydiveforecast.domain.port.out;
+
+import java.time.Instant;
+
+public interface ModelRunSchedule {
+
+    // when the forecast model run in use now became available; results older than it are stale
+    Instant currentModelRunAvailableAt();
+}
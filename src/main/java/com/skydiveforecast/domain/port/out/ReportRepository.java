@@ -0,0 +1,27 @@
+package com.skydiveforecast.domain.port.out;
+
+import com.skydiveforecast.domain.model.ReportRecord;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReportRepository {
+
+    // false, and a no-op, when a report with the same id exists already
+    boolean insertPending(ReportRecord report);
+
+    // records that userId asked for the report; asking again is a no-op
+    void addSubmitter(String reportId, String userId, Instant now);
+
+    // puts a finished or stale report back to PENDING unless someone else changed it since expectedVersion
+    boolean requeue(String id, long expectedVersion, Instant now);
+
+    // inserts or overwrites status, result and error in one batch, bumping the version of existing rows
+    void saveAll(Collection<ReportRecord> reports);
+
+    Optional<ReportRecord> findById(String id);
+
+    List<ReportRecord> findAllById(Collection<String> ids);
+}
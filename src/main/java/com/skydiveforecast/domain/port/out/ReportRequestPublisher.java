@@ -0,0 +1,9 @@
+package com.skydiveforecast.domain.port.out;
+
+import com.skydiveforecast.domain.model.ReportRequest;
+
+public interface ReportRequestPublisher {
+
+    // hands the request to report generation without waiting for it to be accepted; never loses it silently
+    void publish(ReportRequest request);
+}
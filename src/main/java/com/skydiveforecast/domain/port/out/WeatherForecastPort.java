@@ -1,9 +1,23 @@
 package com.skydiveforecast.domain.port.out;
 
 import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.GeoPoint;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
+import java.util.List;
 
+// Forecasts are looked up per model grid cell and may carry the cell's coordinates rather than the requested ones
 public interface WeatherForecastPort {
     Forecast getHourlyForecast(double latitude, double longitude, LocalDate date);
+
+    Mono<Forecast> getHourlyForecastReactive(double latitude, double longitude, LocalDate date);
+
+    // one Forecast per location, in request order
+    List<Forecast> getHourlyForecasts(List<GeoPoint> locations, LocalDate date);
+
+    // whole window [startDate, endDate] in as few upstream calls as the cache allows
+    Forecast getHourlyForecast(double latitude, double longitude, LocalDate startDate, LocalDate endDate);
+
+    List<Forecast> getHourlyForecasts(List<GeoPoint> locations, LocalDate startDate, LocalDate endDate);
 }
@@ -1,36 +1,229 @@
 package com.skydiveforecast.domain.service;
 
-import com.skydiveforecast.infrastructure.adapter.in.web.dto.AnalysisRequest;
-import com.skydiveforecast.infrastructure.adapter.in.web.dto.AnalysisResponse;
-import org.springframework.stereotype.Service;
+import com.skydiveforecast.application.service.AnalysisPromptAssembler;
+import com.skydiveforecast.application.service.ForecastService;
+import com.skydiveforecast.domain.model.AiAnalysis;
+import com.skydiveforecast.domain.model.AnalysisPrompt;
+import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.JumpRules;
+import com.skydiveforecast.infrastructure.ai.LlmCallGuard;
+import com.skydiveforecast.infrastructure.cache.SingleFlight;
+import com.skydiveforecast.infrastructure.config.CacheConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+// LLM calls are the slowest and most expensive path, so an analysis is looked up by its prompt's hash
+// first: the prompt is built from cached forecasts only, so it repeats until the next model run, which is
+// also when the cached answer expires. Concurrent identical misses share one call, and calls are bounded
+// and queued fairly per user by LlmCallGuard.
+@Slf4j
 @Service
 public class AiService {
 
+    private static final String SYSTEM_PROMPT = "You are a skydiving weather advisor. Answer from the data given "
+            + "only, briefly and concretely, naming dates and local times. Scores are 0-100; 0 means no-go.";
+
     private final ChatClient chatClient;
+    private final ForecastService forecastService;
+    private final JumpabilityScorer scorer;
+    private final AnalysisPromptAssembler promptAssembler;
+    private final LlmCallGuard callGuard;
+    private final AuthService authService;
+    private final Cache analysisCache;
+    private final SingleFlight<String, AiAnalysis> analysisCalls;
+    private final String model;
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Counter promptTokens;
+    private final Counter completionTokens;
+    private final Timer callSuccess;
+    private final Timer callFailure;
+    private final Timer streamSuccess;
+    private final Timer streamFailure;
+    private final Timer streamCancelled;
+    private final Timer firstToken;
 
     @Autowired
-    public AiService(ChatClient chatClient) {
+    public AiService(ChatClient chatClient, ForecastService forecastService, JumpabilityScorer scorer,
+                     AnalysisPromptAssembler promptAssembler, LlmCallGuard callGuard, AuthService authService,
+                     CacheManager cacheManager, MeterRegistry meterRegistry,
+                     @Value("${spring.ai.openai.chat.options.model:default}") String model) {
         this.chatClient = chatClient;
+        this.forecastService = forecastService;
+        this.scorer = scorer;
+        this.promptAssembler = promptAssembler;
+        this.callGuard = callGuard;
+        this.authService = authService;
+        this.analysisCache = cacheManager.getCache(CacheConfig.AI_ANALYSIS_CACHE);
+        this.analysisCalls = new SingleFlight<>("aiAnalysis", meterRegistry);
+        this.model = model;
+
+        this.cacheHits = Counter.builder("ai.analysis.cache").tag("result", "hit").register(meterRegistry);
+        this.cacheMisses = Counter.builder("ai.analysis.cache").tag("result", "miss").register(meterRegistry);
+        this.promptTokens = Counter.builder("ai.tokens").tag("model", model).tag("type", "prompt")
+                .register(meterRegistry);
+        this.completionTokens = Counter.builder("ai.tokens").tag("model", model).tag("type", "completion")
+                .register(meterRegistry);
+        this.callSuccess = Timer.builder("ai.call").tag("model", model).tag("outcome", "success")
+                .register(meterRegistry);
+        this.callFailure = Timer.builder("ai.call").tag("model", model).tag("outcome", "error")
+                .register(meterRegistry);
+        this.streamSuccess = Timer.builder("ai.stream").tag("model", model).tag("outcome", "success")
+                .register(meterRegistry);
+        this.streamFailure = Timer.builder("ai.stream").tag("model", model).tag("outcome", "error")
+                .register(meterRegistry);
+        this.streamCancelled = Timer.builder("ai.stream").tag("model", model).tag("outcome", "cancelled")
+                .register(meterRegistry);
+        this.firstToken = Timer.builder("ai.stream.first.token").tag("model", model)
+                .register(meterRegistry);
     }
 
-    public AnalysisResponse analyze(AnalysisRequest request) {
-        String userData = null;
+    public AiAnalysis analyze(Dropzone dropzone, LocalDate startDate, LocalDate endDate, String question) {
+        try {
+            return analyzeAsync(dropzone, startDate, endDate, question).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
 
-        // TODO get prompt template from database, add data about weather, and airports
+    // Completes once the model has answered; a cache miss queues behind other LLM calls and may be rejected
+    // with LlmRejectedException or fail with CallNotPermittedException or TimeoutException
+    public CompletableFuture<AiAnalysis> analyzeAsync(Dropzone dropzone, LocalDate startDate, LocalDate endDate,
+                                                      String question) {
+        Long userId = authService.getCurrentUserId();
+        AnalysisPrompt prompt = assemblePrompt(dropzone, startDate, endDate, question);
+        AiAnalysis cached = analysisCache.get(prompt.cacheKey(), AiAnalysis.class);
+        if (cached != null) {
+            cacheHits.increment();
+            return CompletableFuture.completedFuture(cached);
+        }
+        cacheMisses.increment();
+        // callers arriving while the call runs or waits share it instead of queueing their own
+        return analysisCalls.execute(prompt.cacheKey(), () -> callGuard.call(userId, () -> call(prompt)));
+    }
 
-        Prompt prompt = new Prompt(
-            "Data: " + userData + "\n" +
-            "Please analyze forecast."
-        );
+    // Streams the answer in chunks as the model produces them; a cached answer comes as one chunk. The full
+    // text is cached only when the stream completes; cancelling (a client disconnect) cancels the upstream
+    // call too. Streams are not shared between identical concurrent requests.
+    public Flux<String> analyzeStream(Dropzone dropzone, LocalDate startDate, LocalDate endDate, String question) {
+        Long userId = authService.getCurrentUserId();
+        return Mono.fromCallable(() -> assemblePrompt(dropzone, startDate, endDate, question))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(prompt -> {
+                    AiAnalysis cached = analysisCache.get(prompt.cacheKey(), AiAnalysis.class);
+                    if (cached != null) {
+                        cacheHits.increment();
+                        return Flux.just(cached.content());
+                    }
+                    cacheMisses.increment();
+                    return callGuard.stream(userId, () -> stream(prompt));
+                });
+    }
 
-        String aiResult = chatClient.prompt(prompt)
-                .call()
-                .content();
+    AnalysisPrompt assemblePrompt(Dropzone dropzone, LocalDate startDate, LocalDate endDate, String question) {
+        Forecast forecast = forecastService.getForecast(dropzone.getLatitude().doubleValue(),
+                dropzone.getLongitude().doubleValue(), startDate, endDate);
+        JumpRules rules = JumpRules.forDropzone(dropzone);
+        return promptAssembler.assemble(dropzone, forecast.series(), scorer.assess(forecast.series(), rules), rules,
+                question, model);
+    }
+
+    private AiAnalysis call(AnalysisPrompt prompt) {
+        long start = System.nanoTime();
+        ChatResponse response;
+        try {
+            response = chatClient.prompt()
+                    .system(SYSTEM_PROMPT)
+                    .user(prompt.text())
+                    .call()
+                    .chatResponse();
+        } catch (RuntimeException e) {
+            callFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        callSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return complete(prompt, text(response), usage(response), start);
+    }
+
+    private Flux<String> stream(AnalysisPrompt prompt) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            StringBuilder text = new StringBuilder();
+            AtomicReference<Usage> usage = new AtomicReference<>();
+            return chatClient.prompt()
+                    .system(SYSTEM_PROMPT)
+                    .user(prompt.text())
+                    .stream()
+                    .chatResponse()
+                    .doOnNext(response -> {
+                        // providers report usage on the last chunk, if at all
+                        Usage chunkUsage = usage(response);
+                        if (chunkUsage != null && chunkUsage.getTotalTokens() != null
+                                && chunkUsage.getTotalTokens() > 0) {
+                            usage.set(chunkUsage);
+                        }
+                    })
+                    .mapNotNull(AiService::text)
+                    .filter(chunk -> !chunk.isEmpty())
+                    .doOnNext(chunk -> {
+                        if (text.isEmpty()) {
+                            firstToken.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        }
+                        text.append(chunk);
+                    })
+                    .doOnComplete(() -> {
+                        streamSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        complete(prompt, text.toString(), usage.get(), start);
+                    })
+                    .doOnError(e -> streamFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnCancel(() -> streamCancelled.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private AiAnalysis complete(AnalysisPrompt prompt, String content, Usage usage, long start) {
+        int prompted = usage != null && usage.getPromptTokens() != null ? usage.getPromptTokens() : 0;
+        int completed = usage != null && usage.getCompletionTokens() != null ? usage.getCompletionTokens() : 0;
+        promptTokens.increment(prompted);
+        completionTokens.increment(completed);
+
+        AiAnalysis analysis = new AiAnalysis(content, model, prompted, completed, Instant.now());
+        if (content != null && !content.isBlank()) {
+            analysisCache.put(prompt.cacheKey(), analysis);
+        }
+        log.debug("AI analysis took {} ms, {} prompt and {} completion tokens",
+                (System.nanoTime() - start) / 1_000_000, prompted, completed);
+        return analysis;
+    }
+
+    private static Usage usage(ChatResponse response) {
+        return response != null && response.getMetadata() != null ? response.getMetadata().getUsage() : null;
+    }
 
-        return new AnalysisResponse(aiResult);
+    private static String text(ChatResponse response) {
+        return response != null && response.getResult() != null && response.getResult().getOutput() != null
+                ? response.getResult().getOutput().getText()
+                : null;
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,15 @@
 package com.skydiveforecast.domain.service;
 
+import com.skydiveforecast.domain.model.VerifiedClaims;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Set;
 
 public interface AuthService {
 
+    // verifies signature and expiry once; throws io.jsonwebtoken.JwtException for invalid or expired tokens
+    VerifiedClaims verify(String token);
+
     String extractUsername(String token);
 
     boolean validateToken(String token, UserDetails userDetails);
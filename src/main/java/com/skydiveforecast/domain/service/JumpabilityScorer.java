@@ -0,0 +1,231 @@
+package com.skydiveforecast.domain.service;
+
+import com.skydiveforecast.domain.model.DailyJumpability;
+import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.HourlySeries;
+import com.skydiveforecast.domain.model.JumpRules;
+import com.skydiveforecast.domain.model.JumpWindow;
+import com.skydiveforecast.domain.model.Jumpability;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+// Deterministic jumpability from the hourly columns. Every factor is turned into a ratio against its limit
+// (wind, gusts, gust spread, cloud cover, precipitation, and minimum visibility over actual visibility);
+// the worst ratio decides: >= 1 or NaN is no-go (0), otherwise the score is 100 * (1 - worst), at least 1.
+// The hourly pass is a branch-free loop over primitive arrays that the JIT can unroll and vectorize.
+@Service
+public class JumpabilityScorer {
+
+    private static final int SECONDS_PER_HOUR = 3_600;
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    public Jumpability assess(Forecast forecast, Dropzone dropzone) {
+        return assess(forecast.series(), JumpRules.forDropzone(dropzone));
+    }
+
+    public Jumpability assess(HourlySeries series, JumpRules rules) {
+        if (series.isEmpty()) {
+            return Jumpability.EMPTY;
+        }
+        int[] scores = new int[series.size()];
+        scoreHours(series, rules, scores, 0, series.size());
+        return summarize(series, rules, scores, null, null, null);
+    }
+
+    // Incremental variant for a newer forecast of the same place: hours whose inputs are unchanged keep
+    // their previous score, and days without a changed hour keep their previous summary and windows.
+    public Jumpability rescore(HourlySeries previousSeries, Jumpability previous, HourlySeries series,
+                               JumpRules rules) {
+        if (series.isEmpty()) {
+            return Jumpability.EMPTY;
+        }
+        int[] scores = new int[series.size()];
+        BitSet changed = new BitSet(series.size());
+        long[] previousTimes = previousSeries.localEpochSeconds();
+        long[] times = series.localEpochSeconds();
+        int j = 0;
+        for (int i = 0; i < series.size(); i++) {
+            while (j < previousTimes.length && previousTimes[j] < times[i]) {
+                // an hour the previous run had and this one lacks changes the day it belonged to: this hour's
+                // day, or the previous hour's when the lost hour ended that day (D 23:00 lost, D+1 00:00 next)
+                if (sameDay(previousTimes[j], times[i])) {
+                    changed.set(i);
+                } else if (i > 0 && sameDay(previousTimes[j], times[i - 1])) {
+                    changed.set(i - 1);
+                }
+                j++;
+            }
+            if (j < previousTimes.length && previousTimes[j] == times[i] && sameInputs(previousSeries, j, series, i)) {
+                scores[i] = previous.hourlyScores()[j];
+                j++;
+            } else {
+                changed.set(i);
+            }
+        }
+        int last = series.size() - 1;
+        if (j < previousTimes.length && sameDay(previousTimes[j], times[last])) {
+            changed.set(last);
+        }
+        for (int from = changed.nextSetBit(0); from >= 0; from = changed.nextSetBit(from)) {
+            int to = changed.nextClearBit(from);
+            scoreHours(series, rules, scores, from, to);
+            from = to;
+        }
+        return summarize(series, rules, scores, changed, previous.days(), previous.windows());
+    }
+
+    private static boolean sameDay(long localEpochSecond, long otherLocalEpochSecond) {
+        return Math.floorDiv(localEpochSecond, SECONDS_PER_DAY) == Math.floorDiv(otherLocalEpochSecond, SECONDS_PER_DAY);
+    }
+
+    private static boolean sameInputs(HourlySeries a, int i, HourlySeries b, int j) {
+        return Double.compare(a.windSpeed10m()[i], b.windSpeed10m()[j]) == 0
+                && Double.compare(a.windGusts10m()[i], b.windGusts10m()[j]) == 0
+                && a.cloudCoverPct()[i] == b.cloudCoverPct()[j]
+                && Double.compare(a.precipitationMm()[i], b.precipitationMm()[j]) == 0
+                && a.hasVisibility(i) == b.hasVisibility(j)
+                && a.visibilityM()[i] == b.visibilityM()[j];
+    }
+
+    // windows never span days, so a day's summary and windows depend on that day's scores only
+    private Jumpability summarize(HourlySeries series, JumpRules rules, int[] scores, BitSet changed,
+                                  List<DailyJumpability> previousDays, List<JumpWindow> previousWindows) {
+        List<DailyJumpability> days = new ArrayList<>();
+        List<JumpWindow> windows = new ArrayList<>();
+        int from = 0;
+        for (int i = 1; i <= series.size(); i++) {
+            if (i < series.size() && series.localEpochDay(i) == series.localEpochDay(from)) {
+                continue;
+            }
+            LocalDate date = LocalDate.ofEpochDay(series.localEpochDay(from));
+            DailyJumpability previousDay = changed == null ? null : findDay(previousDays, date);
+            int nextChange = changed == null ? from : changed.nextSetBit(from);
+            if (previousDay != null && (nextChange < 0 || nextChange >= i)) {
+                days.add(previousDay);
+                previousWindows.stream()
+                        .filter(window -> window.start().toLocalDate().equals(date))
+                        .forEach(windows::add);
+            } else {
+                List<JumpWindow> dayWindows = windows(series, rules, scores, from, i);
+                days.add(daily(series, rules, scores, from, i, date, !dayWindows.isEmpty()));
+                windows.addAll(dayWindows);
+            }
+            from = i;
+        }
+        return new Jumpability(scores, days, windows);
+    }
+
+    private static DailyJumpability findDay(List<DailyJumpability> days, LocalDate date) {
+        for (DailyJumpability day : days) {
+            if (day.date().equals(date)) {
+                return day;
+            }
+        }
+        return null;
+    }
+
+    // writes scores[from, to) for hours [from, to) of the series, allocation-free
+    public void scoreHours(HourlySeries series, JumpRules rules, int[] scores, int from, int to) {
+        double[] windSpeed = series.windSpeed10m();
+        double[] windGusts = series.windGusts10m();
+        int[] cloudCover = series.cloudCoverPct();
+        double[] precipitation = series.precipitationMm();
+        int[] visibility = series.visibilityM();
+
+        double invWind = 1 / rules.maxWindSpeedKmh();
+        double invGust = 1 / rules.maxWindGustKmh();
+        double invSpread = 1 / rules.maxGustSpreadKmh();
+        double invCloud = 1.0 / rules.maxCloudCoverPct();
+        double invPrecipitation = 1 / rules.maxPrecipitationMm();
+        double minVisibility = rules.minVisibilityM();
+
+        for (int i = from; i < to; i++) {
+            double worst = windSpeed[i] * invWind;
+            worst = Math.max(worst, windGusts[i] * invGust);
+            worst = Math.max(worst, (windGusts[i] - windSpeed[i]) * invSpread);
+            worst = Math.max(worst, cloudCover[i] * invCloud);
+            worst = Math.max(worst, precipitation[i] * invPrecipitation);
+            worst = Math.max(worst, minVisibility / Math.max(visibility[i], 1));
+            scores[i] = toScore(worst);
+        }
+
+        // missing visibility is not a reason to stay on the ground: re-score those hours without it
+        for (int i = series.nextMissingVisibility(from); i >= 0 && i < to; i = series.nextMissingVisibility(i + 1)) {
+            double worst = windSpeed[i] * invWind;
+            worst = Math.max(worst, windGusts[i] * invGust);
+            worst = Math.max(worst, (windGusts[i] - windSpeed[i]) * invSpread);
+            worst = Math.max(worst, cloudCover[i] * invCloud);
+            worst = Math.max(worst, precipitation[i] * invPrecipitation);
+            scores[i] = toScore(worst);
+        }
+    }
+
+    // Math.max propagates NaN, and NaN < 1 is false, so unknown wind is no-go
+    private static int toScore(double worst) {
+        return worst < 1 ? Math.max(1, (int) Math.ceil(100 * (1 - worst))) : 0;
+    }
+
+    private static DailyJumpability daily(HourlySeries series, JumpRules rules, int[] scores, int from, int to,
+                                          LocalDate date, boolean go) {
+        int sum = 0;
+        int operatingHours = 0;
+        int goHours = 0;
+        for (int i = from; i < to; i++) {
+            if (isOperatingHour(series, rules, i)) {
+                sum += scores[i];
+                operatingHours++;
+                if (scores[i] > 0) {
+                    goHours++;
+                }
+            }
+        }
+        int score = operatingHours == 0 ? 0 : Math.round((float) sum / operatingHours);
+        return new DailyJumpability(date, score, goHours, go);
+    }
+
+    // runs of consecutive go hours inside operating hours of hours [from, to), at least minWindowHours long
+    private static List<JumpWindow> windows(HourlySeries series, JumpRules rules, int[] scores, int from, int to) {
+        long[] times = series.localEpochSeconds();
+        List<JumpWindow> windows = new ArrayList<>();
+        int start = -1;
+        int sum = 0;
+        for (int i = from; i < to; i++) {
+            boolean go = scores[i] > 0 && isOperatingHour(series, rules, i);
+            // a gap in the time axis ends a run as well
+            if (start >= 0 && (!go || times[i] - times[i - 1] != SECONDS_PER_HOUR)) {
+                addWindow(windows, series, rules, start, i, sum);
+                start = -1;
+            }
+            if (go) {
+                if (start < 0) {
+                    start = i;
+                    sum = 0;
+                }
+                sum += scores[i];
+            }
+        }
+        if (start >= 0) {
+            addWindow(windows, series, rules, start, to, sum);
+        }
+        return windows;
+    }
+
+    private static void addWindow(List<JumpWindow> windows, HourlySeries series, JumpRules rules,
+                                  int from, int to, int sum) {
+        int hours = to - from;
+        if (hours >= rules.minWindowHours()) {
+            windows.add(new JumpWindow(series.time(from), series.time(to - 1).plusHours(1),
+                    Math.round((float) sum / hours)));
+        }
+    }
+
+    private static boolean isOperatingHour(HourlySeries series, JumpRules rules, int i) {
+        int hour = (int) (Math.floorMod(series.localEpochSeconds()[i], SECONDS_PER_DAY) / SECONDS_PER_HOUR);
+        return hour >= rules.firstHour() && hour < rules.lastHour();
+    }
+}
@@ -1,31 +1,110 @@
 package com.skydiveforecast.domain.service;
-import com.skydiveforecast.infrastructure.adapter.in.web.dto.WeatherReportRequestDto;
-import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
+
+import com.skydiveforecast.domain.model.ReportKey;
+import com.skydiveforecast.domain.model.ReportRecord;
+import com.skydiveforecast.domain.model.ReportRequest;
+import com.skydiveforecast.domain.port.out.ModelRunSchedule;
+import com.skydiveforecast.domain.port.out.ReportRepository;
+import com.skydiveforecast.domain.port.out.ReportRequestPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.UUID;
 
+// Report ids are content addresses (ReportKey), so equal requests share one report: a report that is
+// in progress, or completed on the current model run, is returned instead of being generated again.
+// The id is also the Kafka key, which sends duplicates that do get through to the same consumer.
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class RecommendationService {
 
-    private static final String KAFKA_TOPIC_NAME = "weather-report-requests";
+    private final ReportRequestPublisher reportRequestPublisher;
+    private final ReportRepository reportRepository;
+    private final ModelRunSchedule modelRunSchedule;
+    private final MeterRegistry meterRegistry;
+
+    private final Timer submittedNew;
+    private final Timer submittedReused;
+    private final Timer submittedRequeued;
+    private final Timer submittedFailed;
 
-    private final KafkaTemplate<String, WeatherReportRequestDto> kafkaTemplate;
+    // a PENDING report older than this is assumed lost and requested again
+    @Value("${reports.pending-timeout:PT10M}")
+    private Duration pendingTimeout;
 
-    public String submitReportRequest(LocalDate start, LocalDate end, List<String> airports) {
-        String requestId = UUID.randomUUID().toString();
-        WeatherReportRequestDto request = new WeatherReportRequestDto();
-        request.setRequestId(requestId);
-        request.setStartDate(start);
-        request.setEndDate(end);
-        request.setAirportCodes(airports);
+    public RecommendationService(ReportRequestPublisher reportRequestPublisher, ReportRepository reportRepository,
+                                 ModelRunSchedule modelRunSchedule, MeterRegistry meterRegistry) {
+        this.reportRequestPublisher = reportRequestPublisher;
+        this.reportRepository = reportRepository;
+        this.modelRunSchedule = modelRunSchedule;
+        this.meterRegistry = meterRegistry;
+        this.submittedNew = submitTimer("new");
+        this.submittedReused = submitTimer("reused");
+        this.submittedRequeued = submitTimer("requeued");
+        this.submittedFailed = submitTimer("failed");
+    }
+
+    private Timer submitTimer(String result) {
+        return Timer.builder("weather.reports.submit").tag("result", result).register(meterRegistry);
+    }
 
-        kafkaTemplate.send(KAFKA_TOPIC_NAME, requestId, request);
+    // rejects missing or reversed dates with IllegalArgumentException before anything is stored
+    public String submitReportRequest(LocalDate start, LocalDate end, List<String> airports, String userId) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("startDate and endDate are required");
+        }
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("endDate " + end + " is before startDate " + start);
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        // stays failed unless a path below completes, so store and send errors are timed too
+        Timer result = submittedFailed;
+        try {
+            String requestId = ReportKey.of(start, end, airports);
+            Instant now = Instant.now();
+
+            // stored before it is sent, so a status poll never sees an unknown id
+            boolean inserted = reportRepository.insertPending(ReportRecord.pending(requestId, start, end,
+                    airports != null ? airports : List.of(), now));
+            if (userId != null) {
+                reportRepository.addSubmitter(requestId, userId, now);
+            }
+            Timer sent = submittedNew;
+            if (!inserted) {
+                ReportRecord existing = reportRepository.findById(requestId).orElse(null);
+                if (existing != null && isReusable(existing, now)) {
+                    log.debug("Reusing {} report {}", existing.status(), requestId);
+                    result = submittedReused;
+                    return requestId;
+                }
+                // a concurrent submitter that requeued it first sends the request itself
+                if (existing != null && !reportRepository.requeue(requestId, existing.version(), now)) {
+                    result = submittedReused;
+                    return requestId;
+                }
+                sent = submittedRequeued;
+            }
+
+            reportRequestPublisher.publish(new ReportRequest(requestId, userId, start, end, airports));
+
+            result = sent;
+            return requestId;
+        } finally {
+            sample.stop(result);
+        }
+    }
 
-        return requestId;
+    private boolean isReusable(ReportRecord report, Instant now) {
+        return switch (report.status()) {
+            case PENDING -> report.updatedAt().plus(pendingTimeout).isAfter(now);
+            case COMPLETED -> !report.updatedAt().isBefore(modelRunSchedule.currentModelRunAvailableAt());
+            case FAILED -> false;
+        };
     }
-}
\ No newline at end of file
+}
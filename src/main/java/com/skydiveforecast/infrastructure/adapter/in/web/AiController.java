@@ -1,27 +1,119 @@
 package com.skydiveforecast.infrastructure.adapter.in.web;
 
+import com.skydiveforecast.application.service.DropzoneService;
+import com.skydiveforecast.domain.model.Dropzone;
 import com.skydiveforecast.domain.service.AiService;
+import com.skydiveforecast.infrastructure.ai.LlmRejectedException;
 import com.skydiveforecast.infrastructure.adapter.in.web.dto.AnalysisRequest;
 import com.skydiveforecast.infrastructure.adapter.in.web.dto.AnalysisResponse;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
 @RestController
 @RequestMapping("/api/analyses/ai")
 @Tag(name = "AI forecast", description = "Endpoints for getting ai forecasts.")
 @RequiredArgsConstructor
 public class AiController {
 
+    private static final int DEFAULT_DAYS = 3;
+    // Open-Meteo forecasts reach 16 days ahead
+    private static final int MAX_DAYS = 16;
+
     private final AiService aiService;
+    private final DropzoneService dropzoneService;
 
     @PostMapping
-    @Operation(summary = "Analyze forecast", description = "Analyzes forecast")
-    public AnalysisResponse analyze(@RequestBody AnalysisRequest request) {
-        return aiService.analyze(request);
+    @Operation(summary = "Analyze forecast",
+            description = "Analyzes the forecast for a dropzone and date range, answering inputData if given. "
+                    + "Identical requests within a forecast model run are answered from cache.")
+    public CompletableFuture<AnalysisResponse> analyze(@RequestBody AnalysisRequest request) {
+        AnalysisScope scope = scope(request);
+        return aiService.analyzeAsync(scope.dropzone(), scope.startDate(), scope.endDate(), request.getInputData())
+                .handle((analysis, error) -> {
+                    if (error != null) {
+                        throw toResponseStatus(error);
+                    }
+                    return new AnalysisResponse(analysis.content(), analysis.generatedAt());
+                });
     }
-}
\ No newline at end of file
+
+    // Server-Sent Events: "token" events carry the answer as it is generated, a final "done" event marks the
+    // end and an "error" event a failure. A client disconnect cancels generation.
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream forecast analysis",
+            description = "Same as analyze, but streams the answer as Server-Sent Events while it is generated.")
+    public Flux<ServerSentEvent<String>> analyzeStream(@RequestBody AnalysisRequest request) {
+        AnalysisScope scope = scope(request);
+        return aiService.analyzeStream(scope.dropzone(), scope.startDate(), scope.endDate(), request.getInputData())
+                .map(chunk -> ServerSentEvent.builder(chunk).event("token").build())
+                .concatWithValues(ServerSentEvent.<String>builder().event("done").build())
+                .onErrorResume(e -> {
+                    ResponseStatusException status = toResponseStatus(e);
+                    if (status.getStatusCode().is5xxServerError()) {
+                        log.warn("AI analysis stream failed", e);
+                    }
+                    return Mono.just(ServerSentEvent.builder(status.getReason()).event("error").build());
+                });
+    }
+
+    // queue rejections are the caller's cue to retry later, an open circuit or a timeout is ours
+    static ResponseStatusException toResponseStatus(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof ResponseStatusException status) {
+            return status;
+        }
+        if (cause instanceof LlmRejectedException) {
+            return new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                    "Too many analyses in progress, retry later");
+        }
+        if (cause instanceof CallNotPermittedException) {
+            return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Analysis is unavailable, retry later");
+        }
+        if (cause instanceof TimeoutException) {
+            return new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Analysis timed out");
+        }
+        return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Analysis failed", cause);
+    }
+
+    AnalysisScope scope(AnalysisRequest request) {
+        if (request.getDropzoneId() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "dropzoneId is required");
+        }
+        LocalDate startDate = request.getStartDate() != null ? request.getStartDate() : LocalDate.now();
+        LocalDate endDate = request.getEndDate() != null ? request.getEndDate() : startDate.plusDays(DEFAULT_DAYS - 1);
+        if (endDate.isBefore(startDate) || ChronoUnit.DAYS.between(startDate, endDate) >= MAX_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "endDate must be on or after startDate and at most " + MAX_DAYS + " days later");
+        }
+        Dropzone dropzone = dropzoneService.getAllDropzones().stream()
+                .filter(candidate -> Objects.equals(candidate.getId(), request.getDropzoneId()))
+                .filter(candidate -> candidate.getLatitude() != null && candidate.getLongitude() != null)
+                .findFirst()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Unknown dropzone " + request.getDropzoneId()));
+        return new AnalysisScope(dropzone, startDate, endDate);
+    }
+
+    record AnalysisScope(Dropzone dropzone, LocalDate startDate, LocalDate endDate) {}
+}
@@ -0,0 +1,47 @@
+package com.skydiveforecast.infrastructure.adapter.in.web;
+
+import com.skydiveforecast.application.service.DropzoneService;
+import com.skydiveforecast.domain.model.NearbyDropzone;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analyses/dropzones")
+@Tag(name = "Dropzones", description = "Endpoints for finding dropzones.")
+@RequiredArgsConstructor
+public class DropzoneController {
+
+    private static final int MAX_LIMIT = 200;
+
+    private final DropzoneService dropzoneService;
+
+    @GetMapping("/nearby")
+    @Operation(summary = "Get nearby dropzones",
+            description = "Get dropzones within radiusKm of a point, nearest first.", tags = {"Dropzones"})
+    public List<NearbyDropzone> getNearbyDropzones(
+            @RequestParam("lat") double latitude,
+            @RequestParam("lon") double longitude,
+            @RequestParam(value = "radiusKm", defaultValue = "100") double radiusKm,
+            @RequestParam(value = "limit", defaultValue = "20") int limit
+    ) {
+        // range checks alone let NaN through, every comparison with it being false
+        if (!Double.isFinite(latitude) || !Double.isFinite(longitude)
+                || Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "lat/lon out of range");
+        }
+        if (!Double.isFinite(radiusKm) || radiusKm <= 0 || limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "radiusKm must be positive and limit between 1 and " + MAX_LIMIT);
+        }
+        return dropzoneService.findNearby(latitude, longitude, radiusKm, limit);
+    }
+}
@@ -1,17 +1,28 @@
 package com.skydiveforecast.infrastructure.adapter.in.web;
 
+import com.skydiveforecast.application.service.ForecastDemandTracker;
 import com.skydiveforecast.application.service.ForecastService;
 import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.GeoPoint;
+import com.skydiveforecast.infrastructure.adapter.in.web.dto.BatchForecastRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api/analyses/forecast")
@@ -19,7 +30,12 @@ import java.time.LocalDate;
 @RequiredArgsConstructor
 public class ForecastController {
 
+    // Open-Meteo forecasts reach 16 days ahead
+    private static final int MAX_DAYS = 16;
+    private static final int MAX_LOCATIONS = 200;
+
     private final ForecastService forecastService;
+    private final ForecastDemandTracker demandTracker;
 
     @GetMapping
     @Operation(summary = "Get forecasts",
@@ -29,6 +45,76 @@ public class ForecastController {
             @RequestParam("lon") double longitude,
             @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
     ) {
+        validateLocation(latitude, longitude);
+        demandTracker.record(latitude, longitude);
         return forecastService.getForecast(latitude, longitude, date);
     }
+
+    @GetMapping("/range")
+    @Operation(summary = "Get forecasts for a date range",
+            description = "Get hourly forecast for a given location from startDate to endDate inclusive.",
+            tags = {"Forecast"})
+    public Forecast getForecastsForRange(
+            @RequestParam("lat") double latitude,
+            @RequestParam("lon") double longitude,
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        validateLocation(latitude, longitude);
+        validateRange(startDate, endDate);
+        demandTracker.record(latitude, longitude);
+        return forecastService.getForecast(latitude, longitude, startDate, endDate);
+    }
+
+    @GetMapping("/reactive")
+    @Operation(summary = "Get forecasts (non-blocking)",
+            description = "Get forecast for a given location and date without holding a request thread "
+                    + "while Open-Meteo responds.", tags = {"Forecast"})
+    public Mono<Forecast> getForecastsReactive(
+            @RequestParam("lat") double latitude,
+            @RequestParam("lon") double longitude,
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        validateLocation(latitude, longitude);
+        demandTracker.record(latitude, longitude);
+        return forecastService.getForecastReactive(latitude, longitude, date);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Get forecasts for many locations",
+            description = "Get forecasts for a list of locations and a date, fetched upstream in as few calls "
+                    + "as possible. Forecasts are returned in request order.", tags = {"Forecast"})
+    public List<Forecast> getForecastsBatch(@RequestBody BatchForecastRequest request) {
+        if (request.getDate() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "date is required");
+        }
+        validateRange(request.getDate(), request.getEndDate() != null ? request.getEndDate() : request.getDate());
+        List<GeoPoint> locations = request.getLocations() != null ? request.getLocations() : List.of();
+        if (locations.size() > MAX_LOCATIONS || locations.stream().anyMatch(Objects::isNull)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "locations must hold at most " + MAX_LOCATIONS + " points, none of them null");
+        }
+        locations.forEach(location -> validateLocation(location.latitude(), location.longitude()));
+        locations.forEach(location -> demandTracker.record(location.latitude(), location.longitude()));
+        if (request.getEndDate() == null) {
+            return forecastService.getForecasts(locations, request.getDate());
+        }
+        return forecastService.getForecasts(locations, request.getDate(), request.getEndDate());
+    }
+
+    // range checks alone let NaN through, every comparison with it being false
+    private static void validateLocation(double latitude, double longitude) {
+        if (!Double.isFinite(latitude) || !Double.isFinite(longitude)
+                || Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "lat/lon out of range");
+        }
+    }
+
+    // rejected here rather than by the adapter, where it would count against the Open-Meteo circuit breaker
+    private static void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate) || ChronoUnit.DAYS.between(startDate, endDate) >= MAX_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "endDate must be on or after startDate and at most " + MAX_DAYS + " days later");
+        }
+    }
 }
@@ -0,0 +1,135 @@
+package com.skydiveforecast.infrastructure.adapter.in.web;
+
+import com.skydiveforecast.application.service.ReportService;
+import com.skydiveforecast.domain.model.ReportRecord;
+import com.skydiveforecast.domain.model.ReportStatus;
+import com.skydiveforecast.domain.model.WeatherReport;
+import com.skydiveforecast.domain.service.AuthService;
+import com.skydiveforecast.domain.service.RecommendationService;
+import com.skydiveforecast.infrastructure.adapter.in.web.dto.CreateReportRequest;
+import com.skydiveforecast.infrastructure.adapter.in.web.dto.ReportAcceptedResponse;
+import com.skydiveforecast.infrastructure.adapter.in.web.dto.ReportResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/analyses/reports")
+@Tag(name = "Reports", description = "Endpoints for requesting and fetching weather reports.")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final RecommendationService recommendationService;
+    private final ReportService reportService;
+    private final AuthService authService;
+
+    @Value("${reports.long-poll.max-wait:PT30S}")
+    private Duration maxWait;
+
+    @PostMapping
+    @Operation(summary = "Request a report",
+            description = "Queues a jumpability report for the given airports and dates. Poll the Location "
+                    + "returned for the result.", tags = {"Reports"})
+    public ResponseEntity<ReportAcceptedResponse> submitReport(@RequestBody CreateReportRequest request) {
+        Long userId = authService.getCurrentUserId();
+        String requestId;
+        try {
+            requestId = recommendationService.submitReportRequest(request.getStartDate(), request.getEndDate(),
+                    request.getAirportCodes(), userId != null ? userId.toString() : null);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/analyses/reports/" + requestId))
+                .body(new ReportAcceptedResponse(requestId, ReportStatus.PENDING));
+    }
+
+    // With wait > 0 the request is held until the report changes (finishes, or no longer matches
+    // If-None-Match) or the wait runs out, so clients need no tight polling loop.
+    @GetMapping("/{id}")
+    @Operation(summary = "Get a report",
+            description = "Returns the report and its ETag, or 304 when If-None-Match still matches. With wait "
+                    + "(seconds) set, a pending or unchanged report is long-polled.", tags = {"Reports"})
+    public DeferredResult<ResponseEntity<ReportResponse>> getReport(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestParam(value = "wait", defaultValue = "0") long waitSeconds
+    ) {
+        Duration wait = Duration.ofSeconds(Math.max(0, waitSeconds));
+        if (wait.compareTo(maxWait) > 0) {
+            wait = maxWait;
+        }
+        // the waiter times out on its own first; this is only a backstop
+        DeferredResult<ResponseEntity<ReportResponse>> result = new DeferredResult<>(wait.plusSeconds(5).toMillis());
+
+        // reports are shared by everyone who asked for the same airports and dates
+        ReportRecord current = reportService.find(id).orElse(null);
+        if (current == null) {
+            result.setResult(ResponseEntity.notFound().build());
+            return result;
+        }
+        boolean unchanged = matches(ifNoneMatch, current.etag());
+        if (wait.isZero() || (current.isDone() && !unchanged)) {
+            result.setResult(response(current, ifNoneMatch));
+            return result;
+        }
+
+        CompletableFuture<ReportRecord> change = reportService.awaitChange(id, current.version(), wait);
+        change.whenComplete((changed, error) ->
+                result.setResult(response(changed != null ? changed : current, ifNoneMatch)));
+        // a client that went away stops waiting as well
+        result.onCompletion(() -> change.cancel(false));
+        return result;
+    }
+
+    private static ResponseEntity<ReportResponse> response(ReportRecord report, String ifNoneMatch) {
+        if (matches(ifNoneMatch, report.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(report.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(report.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(toResponse(report));
+    }
+
+    private static ReportResponse toResponse(ReportRecord report) {
+        WeatherReport result = report.result();
+        return new ReportResponse(report.id(), report.status(), report.startDate(), report.endDate(),
+                report.airportCodes(),
+                result != null ? result.generatedAt() : null,
+                result != null ? result.airports() : null,
+                result != null ? result.unknownAirports() : null,
+                report.error(), report.updatedAt());
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || Objects.equals(tag, etag));
+    }
+}
@@ -1,5 +1,15 @@
 package com.skydiveforecast.infrastructure.adapter.in.web.dto;
 
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
 public class AnalysisRequest {
+    // the question for the analysis; a general outlook is given when empty
     private String inputData;
-}
\ No newline at end of file
+    private Long dropzoneId;
+    // optional, default to today and the two days after startDate
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
@@ -1,8 +1,13 @@
 package com.skydiveforecast.infrastructure.adapter.in.web.dto;
 
 import lombok.AllArgsConstructor;
+import lombok.Data;
 
+import java.time.Instant;
+
+@Data
 @AllArgsConstructor
 public class AnalysisResponse {
     private String result;
-}
\ No newline at end of file
+    private Instant generatedAt;
+}
@@ -0,0 +1,15 @@
+package com.skydiveforecast.infrastructure.adapter.in.web.dto;
+
+import com.skydiveforecast.domain.model.GeoPoint;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class BatchForecastRequest {
+    private LocalDate date;
+    // optional, defaults to date for a single-day batch
+    private LocalDate endDate;
+    private List<GeoPoint> locations;
+}
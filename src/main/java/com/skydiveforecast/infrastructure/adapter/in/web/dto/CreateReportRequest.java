@@ -0,0 +1,14 @@
+package com.skydiveforecast.infrastructure.adapter.in.web.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class CreateReportRequest {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    // dropzone ids or names
+    private List<String> airportCodes;
+}
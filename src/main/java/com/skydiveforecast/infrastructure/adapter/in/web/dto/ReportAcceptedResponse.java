@@ -0,0 +1,12 @@
+package com.skydiveforecast.infrastructure.adapter.in.web.dto;
+
+import com.skydiveforecast.domain.model.ReportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ReportAcceptedResponse {
+    private String requestId;
+    private ReportStatus status;
+}
@@ -0,0 +1,27 @@
+package com.skydiveforecast.infrastructure.adapter.in.web.dto;
+
+import com.skydiveforecast.domain.model.AirportReport;
+import com.skydiveforecast.domain.model.ReportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+// A report as served to anyone who knows its id; ids are derived from the request, so nothing here names
+// who asked for it. airports, unknownAirports and generatedAt are set once the report is COMPLETED.
+@Data
+@AllArgsConstructor
+public class ReportResponse {
+    private String id;
+    private ReportStatus status;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<String> airportCodes;
+    private Instant generatedAt;
+    private List<AirportReport> airports;
+    private List<String> unknownAirports;
+    private String error;
+    private Instant updatedAt;
+}
@@ -1,6 +1,10 @@
 package com.skydiveforecast.infrastructure.adapter.out;
 
 public class DropzoneClientException extends RuntimeException {
+    public DropzoneClientException(String message) {
+        super(message);
+    }
+
     public DropzoneClientException(String message, Throwable cause) {
         super(message, cause);
     }
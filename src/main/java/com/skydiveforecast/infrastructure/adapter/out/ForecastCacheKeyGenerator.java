@@ -0,0 +1,36 @@
+package com.skydiveforecast.infrastructure.adapter.out;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+
+@Component(ForecastCacheKeyGenerator.BEAN_NAME)
+public class ForecastCacheKeyGenerator implements KeyGenerator {
+
+    public static final String BEAN_NAME = "forecastCacheKeyGenerator";
+
+    private final ModelGridQuantizer quantizer;
+
+    public ForecastCacheKeyGenerator(ModelGridQuantizer quantizer) {
+        this.quantizer = quantizer;
+    }
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        return key((double) params[0], (double) params[1], (LocalDate) params[2]);
+    }
+
+    public String key(double latitude, double longitude, LocalDate date) {
+        return key(locationKey(latitude, longitude), date);
+    }
+
+    public String key(String locationKey, LocalDate date) {
+        return locationKey + "," + date;
+    }
+
+    public String locationKey(double latitude, double longitude) {
+        return quantizer.cellKey(latitude, longitude);
+    }
+}
@@ -0,0 +1,146 @@
+package com.skydiveforecast.infrastructure.adapter.out;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skydiveforecast.domain.model.ReportRecord;
+import com.skydiveforecast.domain.model.ReportStatus;
+import com.skydiveforecast.domain.model.WeatherReport;
+import com.skydiveforecast.domain.port.out.ReportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Plain JDBC rather than JPA: results are written a consumer batch at a time as one batched upsert
+// (rewritten into multi-row INSERTs by the driver with reWriteBatchedInserts=true), and payloads are jsonb.
+@Repository
+@RequiredArgsConstructor
+public class JdbcReportRepository implements ReportRepository {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final String COLUMNS = "id, status, start_date, end_date, airport_codes, result, error, "
+            + "version, created_at, updated_at";
+
+    private static final String INSERT = "INSERT INTO weather_report (" + COLUMNS + ") "
+            + "VALUES (?, ?, ?, ?, CAST(? AS jsonb), CAST(? AS jsonb), ?, ?, ?, ?)";
+
+    private static final String INSERT_PENDING = INSERT + " ON CONFLICT (id) DO NOTHING";
+
+    private static final String UPSERT = INSERT + " ON CONFLICT (id) DO UPDATE SET "
+            + "status = EXCLUDED.status, result = EXCLUDED.result, error = EXCLUDED.error, "
+            + "version = weather_report.version + 1, updated_at = EXCLUDED.updated_at";
+
+    private static final String INSERT_SUBMITTER = "INSERT INTO report_submitter (report_id, user_id, submitted_at) "
+            + "VALUES (?, ?, ?) ON CONFLICT (report_id, user_id) DO NOTHING";
+
+    private static final String REQUEUE = "UPDATE weather_report SET status = 'PENDING', result = NULL, error = NULL, "
+            + "version = version + 1, updated_at = ? WHERE id = ? AND version = ?";
+
+    private static final String SELECT = "SELECT " + COLUMNS + " FROM weather_report";
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean insertPending(ReportRecord report) {
+        return jdbcTemplate.update(INSERT_PENDING, ps -> bind(ps, report)) == 1;
+    }
+
+    @Override
+    public void addSubmitter(String reportId, String userId, Instant now) {
+        jdbcTemplate.update(INSERT_SUBMITTER, reportId, userId, Timestamp.from(now));
+    }
+
+    @Override
+    public boolean requeue(String id, long expectedVersion, Instant now) {
+        return jdbcTemplate.update(REQUEUE, Timestamp.from(now), id, expectedVersion) == 1;
+    }
+
+    @Override
+    public void saveAll(Collection<ReportRecord> reports) {
+        if (!reports.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT, reports, BATCH_SIZE, this::bind);
+        }
+    }
+
+    @Override
+    public Optional<ReportRecord> findById(String id) {
+        return jdbcTemplate.query(SELECT + " WHERE id = ?", rowMapper(), id).stream().findFirst();
+    }
+
+    @Override
+    public List<ReportRecord> findAllById(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT + " WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", ids.toArray())),
+                rowMapper());
+    }
+
+    private void bind(PreparedStatement ps, ReportRecord report) throws SQLException {
+        ps.setString(1, report.id());
+        ps.setString(2, report.status().name());
+        ps.setDate(3, report.startDate() != null ? Date.valueOf(report.startDate()) : null);
+        ps.setDate(4, report.endDate() != null ? Date.valueOf(report.endDate()) : null);
+        ps.setString(5, toJson(report.airportCodes()));
+        ps.setString(6, report.result() != null ? toJson(report.result()) : null);
+        ps.setString(7, report.error());
+        ps.setLong(8, report.version());
+        ps.setTimestamp(9, Timestamp.from(report.createdAt()));
+        ps.setTimestamp(10, Timestamp.from(report.updatedAt()));
+    }
+
+    private RowMapper<ReportRecord> rowMapper() {
+        return (rs, rowNum) -> new ReportRecord(
+                rs.getString("id"),
+                ReportStatus.valueOf(rs.getString("status")),
+                localDate(rs, "start_date"),
+                localDate(rs, "end_date"),
+                fromJson(rs.getString("airport_codes"), STRING_LIST, List.of()),
+                fromJson(rs.getString("result"), new TypeReference<WeatherReport>() {}, null),
+                rs.getString("error"),
+                rs.getLong("version"),
+                rs.getTimestamp("created_at").toInstant(),
+                rs.getTimestamp("updated_at").toInstant());
+    }
+
+    private static LocalDate localDate(ResultSet rs, String column) throws SQLException {
+        Date date = rs.getDate(column);
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize report", e);
+        }
+    }
+
+    private <T> T fromJson(String json, TypeReference<T> type, T defaultValue) {
+        if (json == null) {
+            return defaultValue;
+        }
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read stored report", e);
+        }
+    }
+}
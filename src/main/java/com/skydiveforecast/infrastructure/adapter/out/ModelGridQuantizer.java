@@ -0,0 +1,80 @@
+package com.skydiveforecast.infrastructure.adapter.out;
+
+import com.skydiveforecast.domain.model.GeoPoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Map;
+
+// Snaps coordinates to the grid of the configured Open-Meteo model, so every point inside one grid cell
+// shares a cache entry and an upstream request. best_match picks a model per region; its finest grid over
+// Europe (ICON-D2, ~2 km) is used, which never merges points the model itself would tell apart.
+@Component
+public class ModelGridQuantizer {
+
+    public static final String BEST_MATCH = "best_match";
+
+    private static final Map<String, Double> MODEL_RESOLUTION_DEG = Map.of(
+            BEST_MATCH, 0.02,
+            "icon_d2", 0.02,
+            "icon_eu", 0.0625,
+            "icon_global", 0.125,
+            "meteofrance_arome_france_hd", 0.01,
+            "meteofrance_arpege_europe", 0.1,
+            "ecmwf_ifs025", 0.25,
+            "gfs_seamless", 0.25,
+            "gfs_global", 0.25
+    );
+
+    private final String model;
+    private final double resolutionDeg;
+    private final double stepsPerDegree;
+    private final boolean integralSteps;
+    private final String format;
+
+    public ModelGridQuantizer(@Value("${open-meteo.model:best_match}") String model,
+                              @Value("${open-meteo.grid-resolution-deg:#{null}}") Double resolutionOverrideDeg) {
+        Double resolution = resolutionOverrideDeg != null ? resolutionOverrideDeg : MODEL_RESOLUTION_DEG.get(model);
+        if (resolution == null) {
+            throw new IllegalArgumentException("Unknown Open-Meteo model " + model
+                    + ", set open-meteo.grid-resolution-deg explicitly");
+        }
+        if (resolution <= 0) {
+            throw new IllegalArgumentException("Grid resolution must be positive: " + resolution);
+        }
+        this.model = model;
+        this.resolutionDeg = resolution;
+        this.stepsPerDegree = Math.rint(1 / resolution);
+        this.integralSteps = Math.abs(1 / resolution - stepsPerDegree) < 1e-9;
+        int scale = Math.max(0, BigDecimal.valueOf(resolution).stripTrailingZeros().scale());
+        this.format = "%." + scale + "f";
+    }
+
+    public String model() {
+        return model;
+    }
+
+    public double resolutionDeg() {
+        return resolutionDeg;
+    }
+
+    // dividing the cell index by an integral steps-per-degree gives 52.22 rather than 52.220000000000006
+    public double snap(double coordinate) {
+        long cell = Math.round(coordinate / resolutionDeg);
+        return integralSteps ? cell / stepsPerDegree : cell * resolutionDeg;
+    }
+
+    public GeoPoint snap(GeoPoint location) {
+        return new GeoPoint(snap(location.latitude()), snap(location.longitude()));
+    }
+
+    public String cellKey(double latitude, double longitude) {
+        return format(snap(latitude)) + "," + format(snap(longitude));
+    }
+
+    public String format(double coordinate) {
+        return String.format(Locale.ROOT, format, coordinate);
+    }
+}
@@ -0,0 +1,314 @@
+package com.skydiveforecast.infrastructure.adapter.out;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.HourlySeries;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+// Reads Open-Meteo forecast JSON (one object, or an array for multi-location requests) straight into
+// HourlySeries columns: numbers go from the token stream into primitive arrays, timestamps are parsed
+// from the parser's char buffer without creating Strings or LocalDateTimes.
+public class OpenMeteoForecastDecoder implements Decoder<Forecast> {
+
+    private static final List<MimeType> MIME_TYPES = List.of(
+            MediaType.APPLICATION_JSON,
+            new MediaType("application", "*+json"));
+
+    private static final int MISSING_INT = Integer.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 48;
+
+    private final JsonFactory jsonFactory;
+    private final int maxInMemorySize;
+
+    public OpenMeteoForecastDecoder(JsonFactory jsonFactory, int maxInMemorySize) {
+        this.jsonFactory = jsonFactory;
+        this.maxInMemorySize = maxInMemorySize;
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        if (elementType.toClass() != Forecast.class) {
+            return false;
+        }
+        return mimeType == null || MIME_TYPES.stream().anyMatch(supported -> supported.isCompatibleWith(mimeType));
+    }
+
+    @Override
+    public Flux<Forecast> decode(Publisher<DataBuffer> input, ResolvableType elementType, MimeType mimeType,
+                                 Map<String, Object> hints) {
+        return DataBufferUtils.join(input, maxInMemorySize)
+                .flatMapIterable(this::readAndRelease);
+    }
+
+    @Override
+    public Mono<Forecast> decodeToMono(Publisher<DataBuffer> input, ResolvableType elementType, MimeType mimeType,
+                                       Map<String, Object> hints) {
+        return DataBufferUtils.join(input, maxInMemorySize)
+                .map(this::readSingleAndRelease);
+    }
+
+    @Override
+    public Forecast decode(DataBuffer buffer, ResolvableType targetType, MimeType mimeType,
+                           Map<String, Object> hints) {
+        return readSingleAndRelease(buffer);
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        return MIME_TYPES;
+    }
+
+    public List<Forecast> read(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                return List.of(readForecast(parser));
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new DecodingException("Expected Open-Meteo forecast object or array but got " + token);
+            }
+            List<Forecast> forecasts = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                forecasts.add(readForecast(parser));
+            }
+            return forecasts;
+        }
+    }
+
+    private List<Forecast> readAndRelease(DataBuffer buffer) {
+        try (InputStream body = buffer.asInputStream(true)) {
+            return read(body);
+        } catch (IOException e) {
+            throw new DecodingException("Failed to decode Open-Meteo response", e);
+        }
+    }
+
+    private Forecast readSingleAndRelease(DataBuffer buffer) {
+        List<Forecast> forecasts = readAndRelease(buffer);
+        if (forecasts.size() != 1) {
+            throw new DecodingException("Expected one Open-Meteo forecast but got " + forecasts.size());
+        }
+        return forecasts.get(0);
+    }
+
+    private Forecast readForecast(JsonParser parser) throws IOException {
+        double latitude = Double.NaN;
+        double longitude = Double.NaN;
+        HourlySeries series = HourlySeries.EMPTY;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "latitude" -> latitude = parser.getDoubleValue();
+                case "longitude" -> longitude = parser.getDoubleValue();
+                case "hourly" -> series = readHourly(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new Forecast(latitude, longitude, series);
+    }
+
+    private HourlySeries readHourly(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return HourlySeries.EMPTY;
+        }
+
+        long[] times = null;
+        double[] temperature = null;
+        double[] windSpeed = null;
+        double[] windGusts = null;
+        int[] windDirection = null;
+        int[] cloudCover = null;
+        double[] precipitation = null;
+        int[] visibility = null;
+        double[] pressure = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "time" -> times = readTimes(parser);
+                case "temperature_2m" -> temperature = readDoubles(parser);
+                case "wind_speed_10m" -> windSpeed = readDoubles(parser);
+                case "wind_gusts_10m" -> windGusts = readDoubles(parser);
+                case "wind_direction_10m" -> windDirection = readInts(parser);
+                case "cloud_cover" -> cloudCover = readInts(parser);
+                case "precipitation" -> precipitation = readDoubles(parser);
+                case "visibility" -> visibility = readInts(parser);
+                case "pressure_msl" -> pressure = readDoubles(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (times == null || times.length == 0) {
+            return HourlySeries.EMPTY;
+        }
+
+        int size = times.length;
+        visibility = column(visibility, size, MISSING_INT);
+        BitSet visibilityMissing = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (visibility[i] == MISSING_INT) {
+                visibilityMissing.set(i);
+                visibility[i] = 0;
+            }
+        }
+
+        return new HourlySeries(
+                times,
+                column(temperature, size, Double.NaN),
+                column(windSpeed, size, Double.NaN),
+                column(windGusts, size, Double.NaN),
+                column(windDirection, size, 0),
+                column(cloudCover, size, 0),
+                column(precipitation, size, 0.0),
+                visibility,
+                visibilityMissing,
+                column(pressure, size, Double.NaN));
+    }
+
+    private static long[] readTimes(JsonParser parser) throws IOException {
+        long[] values = new long[INITIAL_CAPACITY];
+        int size = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.VALUE_STRING) {
+                throw new DecodingException("Unexpected " + token + " in Open-Meteo time axis");
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = localEpochSecond(parser);
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    // null cells become NaN, the column default is applied when the series is assembled
+    private static double[] readDoubles(JsonParser parser) throws IOException {
+        double[] values = new double[INITIAL_CAPACITY];
+        int size = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = token == JsonToken.VALUE_NULL ? Double.NaN : parser.getDoubleValue();
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    private static int[] readInts(JsonParser parser) throws IOException {
+        int[] values = new int[INITIAL_CAPACITY];
+        int size = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = token == JsonToken.VALUE_NULL ? MISSING_INT : parser.getValueAsInt();
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    // Sized to the time axis: absent or short columns are padded, null cells replaced with the default
+    private static double[] column(double[] column, int size, double defaultValue) {
+        double[] values = column == null ? new double[0] : column;
+        if (values.length != size) {
+            int present = Math.min(values.length, size);
+            values = Arrays.copyOf(values, size);
+            Arrays.fill(values, present, size, defaultValue);
+        }
+        if (!Double.isNaN(defaultValue)) {
+            for (int i = 0; i < size; i++) {
+                if (Double.isNaN(values[i])) {
+                    values[i] = defaultValue;
+                }
+            }
+        }
+        return values;
+    }
+
+    private static int[] column(int[] column, int size, int defaultValue) {
+        int[] values = column == null ? new int[0] : column;
+        if (values.length != size) {
+            int present = Math.min(values.length, size);
+            values = Arrays.copyOf(values, size);
+            Arrays.fill(values, present, size, defaultValue);
+        }
+        for (int i = 0; i < size; i++) {
+            if (values[i] == MISSING_INT) {
+                values[i] = defaultValue;
+            }
+        }
+        return values;
+    }
+
+    // Open-Meteo sends local times as "yyyy-MM-ddTHH:mm"; anything else goes through LocalDateTime.parse
+    static long localEpochSecond(JsonParser parser) throws IOException {
+        char[] text = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        if ((length == 16 || length == 19) && text[offset + 4] == '-' && text[offset + 7] == '-'
+                && text[offset + 10] == 'T' && text[offset + 13] == ':') {
+            int year = digits(text, offset, 4);
+            int month = digits(text, offset + 5, 2);
+            int day = digits(text, offset + 8, 2);
+            int hour = digits(text, offset + 11, 2);
+            int minute = digits(text, offset + 14, 2);
+            int second = length == 19 && text[offset + 16] == ':' ? digits(text, offset + 17, 2) : 0;
+            if (year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= 31
+                    && hour >= 0 && hour < 24 && minute >= 0 && minute < 60 && second >= 0 && second < 60) {
+                return epochDay(year, month, day) * 86_400L + hour * 3_600L + minute * 60L + second;
+            }
+        }
+        return LocalDateTime.parse(parser.getText()).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static int digits(char[] text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = text[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    // days since 1970-01-01 in the proleptic Gregorian calendar
+    private static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468L;
+    }
+}
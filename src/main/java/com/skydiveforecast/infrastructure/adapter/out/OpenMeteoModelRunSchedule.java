@@ -0,0 +1,50 @@
+package com.skydiveforecast.infrastructure.adapter.out;
+
+import com.skydiveforecast.domain.port.out.ModelRunSchedule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+@Component
+public class OpenMeteoModelRunSchedule implements ModelRunSchedule {
+
+    private static final Duration MIN_TTL = Duration.ofMinutes(1);
+
+    private final Duration updateInterval;
+    private final Duration availabilityDelay;
+    private final Clock clock;
+
+    public OpenMeteoModelRunSchedule(@Value("${open-meteo.model-update-interval:PT3H}") Duration updateInterval,
+                                     @Value("${open-meteo.model-availability-delay:PT45M}") Duration availabilityDelay) {
+        this(updateInterval, availabilityDelay, Clock.systemUTC());
+    }
+
+    OpenMeteoModelRunSchedule(Duration updateInterval, Duration availabilityDelay, Clock clock) {
+        this.updateInterval = updateInterval;
+        this.availabilityDelay = availabilityDelay;
+        this.clock = clock;
+    }
+
+    // model runs start every updateInterval from 00:00 UTC and land availabilityDelay later
+    public Instant nextModelRunAvailableAt() {
+        long nowMillis = clock.millis();
+        long intervalMillis = updateInterval.toMillis();
+        long delayMillis = availabilityDelay.toMillis();
+
+        long currentRunStart = Math.floorDiv(nowMillis - delayMillis, intervalMillis) * intervalMillis;
+        return Instant.ofEpochMilli(currentRunStart + intervalMillis + delayMillis);
+    }
+
+    @Override
+    public Instant currentModelRunAvailableAt() {
+        return nextModelRunAvailableAt().minus(updateInterval);
+    }
+
+    public Duration timeToNextModelRun() {
+        Duration ttl = Duration.between(clock.instant(), nextModelRunAvailableAt());
+        return ttl.compareTo(MIN_TTL) < 0 ? MIN_TTL : ttl;
+    }
+}
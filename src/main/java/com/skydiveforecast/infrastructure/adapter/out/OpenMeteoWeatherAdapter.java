@@ -1,22 +1,33 @@
 package com.skydiveforecast.infrastructure.adapter.out;
 
 import com.skydiveforecast.domain.model.Forecast;
-import com.skydiveforecast.domain.model.WeatherPoint;
+import com.skydiveforecast.domain.model.GeoPoint;
+import com.skydiveforecast.domain.model.HourlySeries;
 import com.skydiveforecast.domain.port.out.WeatherForecastPort;
-import com.skydiveforecast.infrastructure.adapter.in.web.dto.OpenMeteoResponse;
+import com.skydiveforecast.infrastructure.cache.SingleFlight;
+import com.skydiveforecast.infrastructure.config.CacheConfig;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 
 import java.net.URI;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.function.ToDoubleFunction;
 
 @Component
 @Slf4j
@@ -24,70 +35,322 @@ public class OpenMeteoWeatherAdapter implements WeatherForecastPort {
 
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE;
 
+    private static final int BATCH_CONCURRENCY = 4;
+
     private final WebClient webClient;
+    private final ForecastCacheKeyGenerator keyGenerator;
+    private final ModelGridQuantizer quantizer;
+    private final CacheManager cacheManager;
+    private final SingleFlight<String, Forecast> forecastRequests;
+    private final OutboundCallTimer requestTimer;
+
+    @Value("${open-meteo.url}")
+    private String openMeteoUrl;
+
+    @Value("${open-meteo.max-locations-per-request:50}")
+    private int maxLocationsPerRequest;
 
-    public OpenMeteoWeatherAdapter(WebClient webClient) {
+    public OpenMeteoWeatherAdapter(WebClient webClient, ForecastCacheKeyGenerator keyGenerator,
+                                   ModelGridQuantizer quantizer, CacheManager cacheManager,
+                                   MeterRegistry meterRegistry) {
         this.webClient = webClient;
+        this.keyGenerator = keyGenerator;
+        this.quantizer = quantizer;
+        this.cacheManager = cacheManager;
+        this.forecastRequests = new SingleFlight<>("openMeteoForecast", meterRegistry);
+        this.requestTimer = new OutboundCallTimer("open.meteo.requests", meterRegistry);
     }
 
     @Override
     @CircuitBreaker(name = "getHourlyForecast", fallbackMethod = "fallback")
-//    @Cacheable( TODO configure cache
-//            value = "getHourlyForecastCache",
-//            key = "#latitude + ',' + #longitude + ',' + #date",
-//            condition = "#date != null",
-//            sync = true
-//    )
+    @Cacheable(
+            value = CacheConfig.FORECAST_CACHE,
+            keyGenerator = ForecastCacheKeyGenerator.BEAN_NAME,
+            condition = "#date != null",
+            unless = "#result == null || #result.hours().isEmpty()"
+    )
     public Forecast getHourlyForecast(double latitude, double longitude, LocalDate date) {
-        URI uri = buildUri(latitude, longitude, date);
-        OpenMeteoResponse response = webClient.get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(OpenMeteoResponse.class)
-                .block();
+        String key = keyGenerator.key(latitude, longitude, date);
+        try {
+            return forecastRequests.execute(key, () -> fetchCell(latitude, longitude, date).toFuture())
+                    .join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    @CircuitBreaker(name = "getHourlyForecast", fallbackMethod = "reactiveFallback")
+    @Cacheable(
+            value = CacheConfig.FORECAST_CACHE,
+            keyGenerator = ForecastCacheKeyGenerator.BEAN_NAME,
+            condition = "#date != null",
+            unless = "#result == null || #result.hours().isEmpty()"
+    )
+    public Mono<Forecast> getHourlyForecastReactive(double latitude, double longitude, LocalDate date) {
+        String key = keyGenerator.key(latitude, longitude, date);
+        // suppressCancel: one disconnecting client must not cancel the upstream call shared with others
+        return Mono.fromFuture(
+                () -> forecastRequests.execute(key, () -> fetchCell(latitude, longitude, date).toFuture()),
+                true);
+    }
+
+    @Override
+    @CircuitBreaker(name = "getHourlyForecast", fallbackMethod = "batchFallback")
+    public List<Forecast> getHourlyForecasts(List<GeoPoint> locations, LocalDate date) {
+        return loadForecasts(locations, date, date);
+    }
+
+    @Override
+    @CircuitBreaker(name = "getHourlyForecast", fallbackMethod = "rangeFallback")
+    public Forecast getHourlyForecast(double latitude, double longitude, LocalDate startDate, LocalDate endDate) {
+        return loadForecasts(List.of(new GeoPoint(latitude, longitude)), startDate, endDate).get(0);
+    }
+
+    @Override
+    @CircuitBreaker(name = "getHourlyForecast", fallbackMethod = "batchRangeFallback")
+    public List<Forecast> getHourlyForecasts(List<GeoPoint> locations, LocalDate startDate, LocalDate endDate) {
+        return loadForecasts(locations, startDate, endDate);
+    }
+
+    // The cache holds one entry per grid cell and day. Only days missing from it are fetched, one upstream
+    // request per contiguous run of missing days, shared by every cell missing exactly that run.
+    // Locations falling into the same cell are fetched once, at the cell's centre.
+    private List<Forecast> loadForecasts(List<GeoPoint> locations, LocalDate startDate, LocalDate endDate) {
+        if (locations == null || locations.isEmpty()) {
+            return List.of();
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date " + endDate + " is before start date " + startDate);
+        }
+
+        Cache cache = forecastCache();
+        List<LocalDate> days = startDate.datesUntil(endDate.plusDays(1)).toList();
+        Map<String, GeoPoint> locationsByKey = new LinkedHashMap<>();
+        Map<String, Forecast[]> slicesByLocationKey = new LinkedHashMap<>();
 
-        if (response == null || response.hourly == null || response.hourly.time == null) {
-            return new Forecast(latitude, longitude, List.of());
+        for (GeoPoint location : locations) {
+            String locationKey = keyGenerator.locationKey(location.latitude(), location.longitude());
+            if (locationsByKey.putIfAbsent(locationKey, quantizer.snap(location)) != null) {
+                continue;
+            }
+            Forecast[] slices = new Forecast[days.size()];
+            for (int day = 0; day < days.size(); day++) {
+                slices[day] = cache.get(keyGenerator.key(locationKey, days.get(day)), Forecast.class);
+            }
+            slicesByLocationKey.put(locationKey, slices);
         }
 
-        List<WeatherPoint> points = new ArrayList<>();
-        List<String> times = response.hourly.time;
-        for (int i = 0; i < times.size(); i++) {
-            LocalDateTime time = LocalDateTime.parse(times.get(i));
-            double temperatureC = getDouble(response.hourly.temperature_2m, i, Double.NaN);
-            double windSpeed = getDouble(response.hourly.wind_speed_10m, i, Double.NaN);
-            double windGusts = getDouble(response.hourly.wind_gusts_10m, i, Double.NaN);
-            int windDir = getInt(response.hourly.wind_direction_10m, i, 0);
-            int cloud = getInt(response.hourly.cloud_cover, i, 0);
-            double precip = getDouble(response.hourly.precipitation, i, 0.0);
-            Integer visibility = getInteger(response.hourly.visibility, i);
-            Double pressure = getDoubleObj(response.hourly.pressure_msl, i);
-
-            points.add(new WeatherPoint(
-                    time,
-                    temperatureC,
-                    windSpeed,
-                    windGusts,
-                    windDir,
-                    cloud,
-                    precip,
-                    visibility,
-                    pressure
-            ));
+        Map<DayRun, List<String>> locationKeysByMissingRun = new LinkedHashMap<>();
+        slicesByLocationKey.forEach((locationKey, slices) ->
+                missingRuns(slices).forEach(run ->
+                        locationKeysByMissingRun.computeIfAbsent(run, r -> new ArrayList<>()).add(locationKey)));
+
+        locationKeysByMissingRun.forEach((run, locationKeys) -> {
+            List<GeoPoint> missing = locationKeys.stream().map(locationsByKey::get).toList();
+            List<Forecast> fetched = fetchForecasts(missing, days.get(run.first()), days.get(run.last()));
+
+            for (int i = 0; i < locationKeys.size(); i++) {
+                Map<LocalDate, Forecast> fetchedByDay = splitByDay(fetched.get(i));
+                Forecast[] slices = slicesByLocationKey.get(locationKeys.get(i));
+                for (int day = run.first(); day <= run.last(); day++) {
+                    Forecast slice = fetchedByDay.get(days.get(day));
+                    if (slice != null) {
+                        cache.put(keyGenerator.key(locationKeys.get(i), days.get(day)), slice);
+                        slices[day] = slice;
+                    }
+                }
+            }
+        });
+
+        return locations.stream()
+                .map(location -> merge(location,
+                        slicesByLocationKey.get(keyGenerator.locationKey(location.latitude(), location.longitude()))))
+                .toList();
+    }
+
+    private static List<DayRun> missingRuns(Forecast[] slices) {
+        List<DayRun> runs = new ArrayList<>();
+        int runStart = -1;
+        for (int day = 0; day <= slices.length; day++) {
+            boolean missing = day < slices.length && slices[day] == null;
+            if (missing && runStart < 0) {
+                runStart = day;
+            } else if (!missing && runStart >= 0) {
+                runs.add(new DayRun(runStart, day - 1));
+                runStart = -1;
+            }
         }
+        return runs;
+    }
 
-        return new Forecast(response.latitude, response.longitude, points);
+    private static Map<LocalDate, Forecast> splitByDay(Forecast forecast) {
+        HourlySeries series = forecast.series();
+        Map<LocalDate, Forecast> slices = new LinkedHashMap<>();
+        int from = 0;
+        for (int i = 1; i <= series.size(); i++) {
+            if (i == series.size() || series.localEpochDay(i) != series.localEpochDay(from)) {
+                slices.put(LocalDate.ofEpochDay(series.localEpochDay(from)),
+                        new Forecast(forecast.latitude(), forecast.longitude(), series.slice(from, i)));
+                from = i;
+            }
+        }
+        return slices;
     }
 
+    private static Forecast merge(GeoPoint location, Forecast[] slices) {
+        Forecast first = null;
+        List<HourlySeries> parts = new ArrayList<>(slices.length);
+        for (Forecast slice : slices) {
+            if (slice == null) {
+                continue;
+            }
+            if (first == null) {
+                first = slice;
+            }
+            parts.add(slice.series());
+        }
+
+        if (first == null) {
+            return Forecast.empty(location.latitude(), location.longitude());
+        }
+        return new Forecast(first.latitude(), first.longitude(), HourlySeries.concat(parts));
+    }
+
+    // inclusive day indexes into the requested range
+    private record DayRun(int first, int last) {}
+
     // fallback method for getHourlyForecast
     private Forecast fallback(double latitude, double longitude, LocalDate date, Throwable t) {
         log.error("Fallback triggered for getHourlyForecast: {}", t.getMessage());
 
         // Return a default Forecast object with empty weather points
-        return new Forecast(latitude, longitude, List.of());
+        return Forecast.empty(latitude, longitude);
+    }
+
+    // fallback method for getHourlyForecastReactive
+    private Mono<Forecast> reactiveFallback(double latitude, double longitude, LocalDate date, Throwable t) {
+        log.error("Fallback triggered for getHourlyForecastReactive: {}", t.getMessage());
+        return Mono.just(Forecast.empty(latitude, longitude));
     }
 
-    private static URI buildUri(double latitude, double longitude, LocalDate date) {
+    // fallback method for getHourlyForecasts: serve whatever is cached, empty forecasts for the rest
+    private List<Forecast> batchFallback(List<GeoPoint> locations, LocalDate date, Throwable t) {
+        return batchRangeFallback(locations, date, date, t);
+    }
+
+    // fallback method for the range variant of getHourlyForecast
+    private Forecast rangeFallback(double latitude, double longitude, LocalDate startDate, LocalDate endDate,
+                                   Throwable t) {
+        return batchRangeFallback(List.of(new GeoPoint(latitude, longitude)), startDate, endDate, t).get(0);
+    }
+
+    // fallback method for the range variant of getHourlyForecasts
+    private List<Forecast> batchRangeFallback(List<GeoPoint> locations, LocalDate startDate, LocalDate endDate,
+                                              Throwable t) {
+        // bad input is the caller's error, not an upstream failure to cover for
+        if (t instanceof IllegalArgumentException e) {
+            throw e;
+        }
+        log.error("Fallback triggered for getHourlyForecasts: {}", t.getMessage());
+
+        Cache cache = forecastCache();
+        List<LocalDate> days = startDate.datesUntil(endDate.plusDays(1)).toList();
+        return locations.stream()
+                .map(location -> {
+                    String locationKey = keyGenerator.locationKey(location.latitude(), location.longitude());
+                    Forecast[] slices = days.stream()
+                            .map(day -> cache.get(keyGenerator.key(locationKey, day), Forecast.class))
+                            .toArray(Forecast[]::new);
+                    return merge(location, slices);
+                })
+                .toList();
+    }
+
+    // Open-Meteo takes comma-separated coordinate lists and answers with one result per location, in order
+    private List<Forecast> fetchForecasts(List<GeoPoint> locations, LocalDate startDate, LocalDate endDate) {
+        List<List<GeoPoint>> chunks = new ArrayList<>();
+        for (int from = 0; from < locations.size(); from += maxLocationsPerRequest) {
+            chunks.add(locations.subList(from, Math.min(from + maxLocationsPerRequest, locations.size())));
+        }
+
+        List<List<Forecast>> chunkResults = Flux.fromIterable(chunks)
+                .flatMapSequential(chunk -> fetchChunk(chunk, startDate, endDate), BATCH_CONCURRENCY)
+                .collectList()
+                .block();
+
+        List<Forecast> forecasts = new ArrayList<>(locations.size());
+        if (chunkResults != null) {
+            chunkResults.forEach(forecasts::addAll);
+        }
+        return forecasts;
+    }
+
+    private Mono<List<Forecast>> fetchChunk(List<GeoPoint> chunk, LocalDate startDate, LocalDate endDate) {
+        URI uri = buildUri(joinCoordinates(chunk, GeoPoint::latitude), joinCoordinates(chunk, GeoPoint::longitude),
+                startDate, endDate);
+        return requestTimer.time("batch", webClient.get()
+                        .uri(uri)
+                        .retrieve()
+                        .bodyToFlux(Forecast.class)
+                        .collectList())
+                .map(responses -> {
+                    if (responses.size() != chunk.size()) {
+                        throw new IllegalStateException("Open-Meteo returned " + responses.size()
+                                + " results for " + chunk.size() + " locations");
+                    }
+                    List<Forecast> forecasts = new ArrayList<>(chunk.size());
+                    for (int i = 0; i < chunk.size(); i++) {
+                        GeoPoint location = chunk.get(i);
+                        forecasts.add(orEmpty(location.latitude(), location.longitude(), responses.get(i)));
+                    }
+                    return forecasts;
+                });
+    }
+
+    private String joinCoordinates(List<GeoPoint> locations, ToDoubleFunction<GeoPoint> coordinate) {
+        StringBuilder joined = new StringBuilder();
+        for (GeoPoint location : locations) {
+            if (!joined.isEmpty()) {
+                joined.append(',');
+            }
+            joined.append(quantizer.format(coordinate.applyAsDouble(location)));
+        }
+        return joined.toString();
+    }
+
+    private Cache forecastCache() {
+        Cache cache = cacheManager.getCache(CacheConfig.FORECAST_CACHE);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + CacheConfig.FORECAST_CACHE);
+        }
+        return cache;
+    }
+
+    // every point of a grid cell gets the forecast fetched for the cell's centre
+    private Mono<Forecast> fetchCell(double latitude, double longitude, LocalDate date) {
+        return fetchForecast(quantizer.snap(latitude), quantizer.snap(longitude), date);
+    }
+
+    private Mono<Forecast> fetchForecast(double latitude, double longitude, LocalDate date) {
+        URI uri = buildUri(quantizer.format(latitude), quantizer.format(longitude), date, date);
+        return requestTimer.time("single", webClient.get()
+                        .uri(uri)
+                        .retrieve()
+                        .bodyToMono(Forecast.class))
+                .map(forecast -> orEmpty(latitude, longitude, forecast))
+                .defaultIfEmpty(Forecast.empty(latitude, longitude));
+    }
+
+    // the decoder reports what Open-Meteo sent; without hourly data the requested point is kept
+    private static Forecast orEmpty(double latitude, double longitude, Forecast forecast) {
+        return forecast.series().isEmpty() ? Forecast.empty(latitude, longitude) : forecast;
+    }
+
+    private URI buildUri(String latitudes, String longitudes, LocalDate startDate, LocalDate endDate) {
         String hourlyVars = String.join(",",
                 "temperature_2m",
                 "wind_speed_10m",
@@ -99,37 +362,17 @@ public class OpenMeteoWeatherAdapter implements WeatherForecastPort {
                 "pressure_msl"
         );
 
-        return UriComponentsBuilder.newInstance()
-                .scheme("https")
-                .host("api.open-meteo.com")
+        UriComponentsBuilder uri = UriComponentsBuilder.fromUriString(openMeteoUrl)
                 .path("/v1/forecast")
-                .queryParam("latitude", latitude)
-                .queryParam("longitude", longitude)
+                .queryParam("latitude", latitudes)
+                .queryParam("longitude", longitudes)
                 .queryParam("hourly", hourlyVars)
-                .queryParam("start_date", DATE_FORMAT.format(date))
-                .queryParam("end_date", DATE_FORMAT.format(date))
-                .queryParam("timezone", "auto")
-                .build(true)
-                .toUri();
-    }
-
-    private static double getDouble(List<Double> list, int index, double defaultValue) {
-        if (list == null || index >= list.size() || list.get(index) == null) return defaultValue;
-        return list.get(index);
-    }
-
-    private static Double getDoubleObj(List<Double> list, int index) {
-        if (list == null || index >= list.size()) return null;
-        return list.get(index);
-    }
-
-    private static int getInt(List<Integer> list, int index, int defaultValue) {
-        if (list == null || index >= list.size() || list.get(index) == null) return defaultValue;
-        return list.get(index);
-    }
-
-    private static Integer getInteger(List<Integer> list, int index) {
-        if (list == null || index >= list.size()) return null;
-        return list.get(index);
+                .queryParam("start_date", DATE_FORMAT.format(startDate))
+                .queryParam("end_date", DATE_FORMAT.format(endDate))
+                .queryParam("timezone", "auto");
+        if (!ModelGridQuantizer.BEST_MATCH.equals(quantizer.model())) {
+            uri.queryParam("models", quantizer.model());
+        }
+        return uri.build(true).toUri();
     }
 }
@@ -0,0 +1,43 @@
+package com.skydiveforecast.infrastructure.adapter.out;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+// Times calls to a remote service from subscription to result, tagged by operation and outcome. The request
+// URI is deliberately not a tag: Open-Meteo's carry coordinates, one time series per location.
+final class OutboundCallTimer {
+
+    private final String name;
+    private final MeterRegistry meterRegistry;
+
+    OutboundCallTimer(String name, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.meterRegistry = meterRegistry;
+    }
+
+    <T> Mono<T> time(String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call
+                    .doOnSuccess(value -> sample.stop(timer(operation, "success")))
+                    .doOnError(error -> sample.stop(timer(operation, outcome(error))))
+                    .doOnCancel(() -> sample.stop(timer(operation, "cancelled")));
+        });
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return Timer.builder(name)
+                .tags(Tags.of("operation", operation, "outcome", outcome))
+                .register(meterRegistry);
+    }
+
+    private static String outcome(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is4xxClientError() ? "client_error" : "server_error";
+        }
+        return "error";
+    }
+}
@@ -1,46 +1,117 @@
 package com.skydiveforecast.infrastructure.adapter.out;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.skydiveforecast.domain.model.Dropzone;
 import com.skydiveforecast.domain.port.out.DropzoneClient;
-import lombok.RequiredArgsConstructor;
+import com.skydiveforecast.domain.service.AuthService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
+// The dropzone list changes rarely, so one catalog snapshot is shared by all callers. Once loaded it is
+// served from memory; after refresh-after it is still served while a conditional GET revalidates it in
+// the background, and it stays in service for as long as the location service is unreachable.
+// A local token check only proves the token is genuine and unexpired, so each caller's token is also put
+// to the location service once per authorization-ttl, as a conditional GET that is usually a 304.
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class WebClientDropzoneAdapter implements DropzoneClient {
 
+    private static final ParameterizedTypeReference<List<Dropzone>> DROPZONE_LIST =
+            new ParameterizedTypeReference<>() {};
+    private static final int MAX_AUTHORIZED_TOKENS = 10_000;
+
     private final WebClient webClient;
-    
+    private final AuthService authService;
+    private final OutboundCallTimer requestTimer;
+
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final ReentrantLock initialLoadLock = new ReentrantLock();
+    // when the location service last accepted a token, keyed by the token's SHA-256
+    private final Cache<String, Instant> authorizedTokens = Caffeine.newBuilder()
+            .maximumSize(MAX_AUTHORIZED_TOKENS)
+            .build();
+
     @Value("${location.service.url}")
     private String locationServiceUrl;
 
+    @Value("${location.service.dropzones-refresh-after:PT1H}")
+    private Duration refreshAfter;
+
+    @Value("${location.service.authorization-ttl:PT5M}")
+    private Duration authorizationTtl;
+
+    public WebClientDropzoneAdapter(WebClient webClient, AuthService authService, MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.authService = authService;
+        this.requestTimer = new OutboundCallTimer("location.service.requests", meterRegistry);
+    }
+
     @Override
-    //TODO configure cache
     public List<Dropzone> getDropzones(String jwtToken) {
+        CatalogSnapshot current = snapshot.get();
+        if (current == null) {
+            initialLoadLock.lock();
+            try {
+                current = snapshot.get();
+                if (current == null) {
+                    // the location service checks the caller's token on this first load
+                    current = loadCatalog(jwtToken);
+                    snapshot.set(current);
+                    authorizedTokens.put(sha256(jwtToken), Instant.now());
+                    return current.dropzones();
+                }
+            } finally {
+                initialLoadLock.unlock();
+            }
+        }
+
+        // served from memory, so the caller's token is checked here first
+        if (!authService.isTokenValid(jwtToken)) {
+            throw new DropzoneClientException("Failed to fetch dropzones: invalid or expired token");
+        }
+        current = authorize(jwtToken, current);
+        if (current.isOlderThan(refreshAfter)) {
+            refreshInBackground(jwtToken, current);
+        }
+        return current.dropzones();
+    }
+
+    @Override
+    public List<Dropzone> getCachedDropzones() {
+        CatalogSnapshot current = snapshot.get();
+        return current != null ? current.dropzones() : List.of();
+    }
+
+    private CatalogSnapshot loadCatalog(String jwtToken) {
         log.info("Fetching dropzones from location service");
-        
+
         try {
-            List<Dropzone> dropzones = webClient
-                .get()
-                .uri(locationServiceUrl + "/api/locations/dropzones")
-                .header("Authorization", "Bearer " + jwtToken)
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<Dropzone>>() {})
-                .block();
-            
-            log.info("Successfully fetched {} dropzones", dropzones != null ? dropzones.size() : 0);
-            return dropzones;
-            
+            CatalogSnapshot loaded = fetch(jwtToken, null).block();
+            log.info("Successfully fetched {} dropzones", loaded != null ? loaded.dropzones().size() : 0);
+            return loaded;
+
         } catch (WebClientResponseException e) {
-            log.error("Error fetching dropzones: status={}, body={}", 
+            log.error("Error fetching dropzones: status={}, body={}",
                 e.getStatusCode(), e.getResponseBodyAsString());
             throw new DropzoneClientException("Failed to fetch dropzones: " + e.getMessage(), e);
         } catch (Exception e) {
@@ -48,4 +119,87 @@ public class WebClientDropzoneAdapter implements DropzoneClient {
             throw new DropzoneClientException("Unexpected error: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    // The location service's own decision, cached per token. A refusal is final; if the service cannot be
+    // reached the local check stands, as the snapshot itself stays in service while it is down.
+    private CatalogSnapshot authorize(String jwtToken, CatalogSnapshot current) {
+        String tokenHash = sha256(jwtToken);
+        Instant authorizedAt = authorizedTokens.getIfPresent(tokenHash);
+        if (authorizedAt != null && authorizedAt.plus(authorizationTtl).isAfter(Instant.now())) {
+            return current;
+        }
+        try {
+            CatalogSnapshot checked = fetch(jwtToken, current).block();
+            authorizedTokens.put(tokenHash, Instant.now());
+            if (checked != null) {
+                snapshot.set(checked);
+                return checked;
+            }
+        } catch (WebClientResponseException e) {
+            if (e.getStatusCode().is4xxClientError()) {
+                throw new DropzoneClientException("Failed to fetch dropzones: location service refused the token", e);
+            }
+            log.warn("Could not authorize token with location service, status={}", e.getStatusCode());
+        } catch (RuntimeException e) {
+            log.warn("Could not authorize token with location service: {}", e.getMessage());
+        }
+        return current;
+    }
+
+    // at most one revalidation at a time; the caller's token is used for that request only, never stored
+    private void refreshInBackground(String jwtToken, CatalogSnapshot current) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        fetch(jwtToken, current)
+                .doFinally(signal -> refreshing.set(false))
+                .subscribe(
+                        snapshot::set,
+                        e -> log.warn("Dropzone catalog refresh failed, serving snapshot from {}: {}",
+                                current.fetchedAt(), e.getMessage()));
+    }
+
+    private Mono<CatalogSnapshot> fetch(String jwtToken, CatalogSnapshot current) {
+        return requestTimer.time("dropzones", webClient
+            .get()
+            .uri(locationServiceUrl + "/api/locations/dropzones")
+            .header("Authorization", "Bearer " + jwtToken)
+            .headers(headers -> {
+                if (current != null && current.etag() != null) {
+                    headers.setIfNoneMatch(current.etag());
+                }
+            })
+            .exchangeToMono(response -> {
+                if (response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && current != null) {
+                    return response.releaseBody().thenReturn(current.revalidated());
+                }
+                if (response.statusCode().isError()) {
+                    return response.createError();
+                }
+                String etag = response.headers().asHttpHeaders().getETag();
+                return response.bodyToMono(DROPZONE_LIST)
+                        .defaultIfEmpty(List.of())
+                        .map(dropzones -> new CatalogSnapshot(List.copyOf(dropzones), etag, Instant.now()));
+            }));
+    }
+
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CatalogSnapshot(List<Dropzone> dropzones, String etag, Instant fetchedAt) {
+
+        boolean isOlderThan(Duration age) {
+            return fetchedAt.plus(age).isBefore(Instant.now());
+        }
+
+        CatalogSnapshot revalidated() {
+            return new CatalogSnapshot(dropzones, etag, Instant.now());
+        }
+    }
+}
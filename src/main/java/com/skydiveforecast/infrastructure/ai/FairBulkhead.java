@@ -0,0 +1,185 @@
+package com.skydiveforecast.infrastructure.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// At most maxConcurrent permits are out at once. Callers beyond that wait in a bounded queue kept per user;
+// a released permit goes to the users in turn, so one user's burst waits behind their own requests instead
+// of everyone else's. A full queue, a full per-user queue or waiting longer than maxWait is rejected.
+public class FairBulkhead {
+
+    private static final Long ANONYMOUS = -1L;
+
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final int maxQueuedPerUser;
+    private final Duration maxWait;
+
+    private final Map<Long, Deque<Waiter>> queues = new HashMap<>();
+    // users with waiters, the next one to be served first
+    private final Deque<Long> turns = new ArrayDeque<>();
+    private int active;
+    private int queued;
+
+    private final Timer waitTime;
+    private final Counter queueFull;
+    private final Counter userQueueFull;
+    private final Counter waitTimeout;
+
+    public FairBulkhead(String name, int maxConcurrent, int maxQueued, int maxQueuedPerUser, Duration maxWait,
+                        MeterRegistry meterRegistry) {
+        if (maxConcurrent < 1 || maxQueued < 0 || maxQueuedPerUser < 1) {
+            throw new IllegalArgumentException("Bulkhead " + name
+                    + " needs at least one permit and one queue slot per user");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxQueuedPerUser = maxQueuedPerUser;
+        this.maxWait = maxWait;
+
+        this.waitTime = Timer.builder("bulkhead.wait").tag("name", name).register(meterRegistry);
+        this.queueFull = rejected(name, LlmRejectedException.Reason.QUEUE_FULL, meterRegistry);
+        this.userQueueFull = rejected(name, LlmRejectedException.Reason.USER_QUEUE_FULL, meterRegistry);
+        this.waitTimeout = rejected(name, LlmRejectedException.Reason.WAIT_TIMEOUT, meterRegistry);
+        Gauge.builder("bulkhead.queue.depth", this, FairBulkhead::queued)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.active", this, FairBulkhead::active)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejected(String name, LlmRejectedException.Reason reason, MeterRegistry meterRegistry) {
+        return Counter.builder("bulkhead.rejected")
+                .tag("name", name)
+                .tag("reason", reason.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    // Completes with a permit the caller must release, or fails with LlmRejectedException. Cancelling the
+    // returned future gives up the place in the queue.
+    public CompletableFuture<Permit> acquire(Long userId) {
+        Long user = userId != null ? userId : ANONYMOUS;
+        Waiter waiter;
+        synchronized (this) {
+            if (active < maxConcurrent && queued == 0) {
+                active++;
+                waitTime.record(0, TimeUnit.NANOSECONDS);
+                return CompletableFuture.completedFuture(new Permit());
+            }
+            if (queued >= maxQueued) {
+                queueFull.increment();
+                return CompletableFuture.failedFuture(new LlmRejectedException(LlmRejectedException.Reason.QUEUE_FULL));
+            }
+            Deque<Waiter> queue = queues.computeIfAbsent(user, key -> new ArrayDeque<>());
+            if (queue.size() >= maxQueuedPerUser) {
+                userQueueFull.increment();
+                return CompletableFuture.failedFuture(
+                        new LlmRejectedException(LlmRejectedException.Reason.USER_QUEUE_FULL));
+            }
+            if (queue.isEmpty()) {
+                turns.addLast(user);
+            }
+            waiter = new Waiter(user, new CompletableFuture<>(), System.nanoTime());
+            queue.addLast(waiter);
+            queued++;
+        }
+
+        CompletableFuture.delayedExecutor(maxWait.toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+            if (remove(waiter)) {
+                waitTimeout.increment();
+                waiter.future().completeExceptionally(
+                        new LlmRejectedException(LlmRejectedException.Reason.WAIT_TIMEOUT));
+            }
+        });
+        waiter.future().whenComplete((permit, error) -> {
+            if (error != null) {
+                remove(waiter);
+            }
+        });
+        return waiter.future();
+    }
+
+    public synchronized int queued() {
+        return queued;
+    }
+
+    public synchronized int active() {
+        return active;
+    }
+
+    private void release() {
+        while (true) {
+            Waiter next;
+            synchronized (this) {
+                next = nextWaiter();
+                if (next == null) {
+                    active--;
+                    return;
+                }
+            }
+            // the permit passes straight to the waiter; if it was cancelled meanwhile, try the next one
+            if (next.future().complete(new Permit())) {
+                waitTime.record(System.nanoTime() - next.queuedAt(), TimeUnit.NANOSECONDS);
+                return;
+            }
+        }
+    }
+
+    private Waiter nextWaiter() {
+        Long user = turns.pollFirst();
+        if (user == null) {
+            return null;
+        }
+        Deque<Waiter> queue = queues.get(user);
+        Waiter waiter = queue.pollFirst();
+        queued--;
+        if (queue.isEmpty()) {
+            queues.remove(user);
+        } else {
+            turns.addLast(user);
+        }
+        return waiter;
+    }
+
+    private synchronized boolean remove(Waiter waiter) {
+        Deque<Waiter> queue = queues.get(waiter.user());
+        if (queue == null || !queue.remove(waiter)) {
+            return false;
+        }
+        queued--;
+        if (queue.isEmpty()) {
+            queues.remove(waiter.user());
+            turns.remove(waiter.user());
+        }
+        return true;
+    }
+
+    private record Waiter(Long user, CompletableFuture<Permit> future, long queuedAt) {}
+
+    public final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        // idempotent, so every exit path may call it
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                FairBulkhead.this.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.skydiveforecast.infrastructure.ai;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
+
+// Every LLM call goes through here: an open circuit fails fast, otherwise the call waits its turn in the
+// fair bulkhead, then runs under the "llm" time limiter and circuit breaker. Blocking calls run on virtual
+// threads, so neither a queued nor a running call holds a request thread. A call that times out is
+// interrupted, and its permit is released only once the call has actually returned, so the bulkhead bounds
+// the calls really in flight upstream.
+@Component
+public class LlmCallGuard {
+
+    public static final String LLM = "llm";
+
+    private final FairBulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final TimeLimiter timeLimiter;
+    private final ExecutorService callExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService timeoutScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("llm-time-limiter").daemon().factory());
+
+    public LlmCallGuard(@Value("${ai.concurrency.max-concurrent-calls:8}") int maxConcurrentCalls,
+                        @Value("${ai.concurrency.max-queued:50}") int maxQueued,
+                        @Value("${ai.concurrency.max-queued-per-user:3}") int maxQueuedPerUser,
+                        @Value("${ai.concurrency.max-wait:PT20S}") Duration maxWait,
+                        CircuitBreakerRegistry circuitBreakerRegistry, TimeLimiterRegistry timeLimiterRegistry,
+                        MeterRegistry meterRegistry) {
+        this.bulkhead = new FairBulkhead(LLM, maxConcurrentCalls, maxQueued, maxQueuedPerUser, maxWait,
+                meterRegistry);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(LLM);
+        this.timeLimiter = timeLimiterRegistry.timeLimiter(LLM);
+    }
+
+    public <T> CompletableFuture<T> call(Long userId, Supplier<T> call) {
+        if (circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+            return CompletableFuture.failedFuture(
+                    CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+        }
+        return bulkhead.acquire(userId).thenCompose(permit -> {
+            InterruptibleCall<T> task = new InterruptibleCall<>(call, permit::release);
+            try {
+                // started only once the breaker lets it through
+                return circuitBreaker
+                        .executeCompletionStage(() -> timeLimiter.executeCompletionStage(timeoutScheduler, () -> {
+                            callExecutor.execute(task);
+                            return task;
+                        }))
+                        .whenComplete((result, error) -> {
+                            if (error != null) {
+                                task.abandon();
+                            }
+                        })
+                        .toCompletableFuture();
+            } catch (RuntimeException e) {
+                task.abandon();
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+
+    // The time limit applies between elements, so a stalled stream fails while a long one keeps going.
+    // Cancelling while queued gives up the place in the queue, cancelling later releases the permit.
+    public <T> Flux<T> stream(Long userId, Supplier<Flux<T>> stream) {
+        return Flux.defer(() -> {
+            if (circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+                return Flux.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+            }
+            return Flux.usingWhen(
+                    Mono.fromFuture(() -> bulkhead.acquire(userId)),
+                    permit -> stream.get()
+                            .transformDeferred(TimeLimiterOperator.of(timeLimiter))
+                            .transformDeferred(CircuitBreakerOperator.of(circuitBreaker)),
+                    permit -> Mono.fromRunnable(permit::release));
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timeoutScheduler.shutdownNow();
+        callExecutor.shutdownNow();
+    }
+
+    // A call run on its own thread, completed by its result unless the time limiter completed it first.
+    // onExit runs once the call has returned, or when the call is abandoned before it started.
+    static final class InterruptibleCall<T> extends CompletableFuture<T> implements Runnable {
+
+        private final Supplier<T> call;
+        private final Runnable onExit;
+        private Thread worker;
+        private boolean started;
+        private boolean abandoned;
+
+        InterruptibleCall(Supplier<T> call, Runnable onExit) {
+            this.call = call;
+            this.onExit = onExit;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (abandoned) {
+                    return;
+                }
+                started = true;
+                worker = Thread.currentThread();
+            }
+            try {
+                if (!isDone()) {
+                    complete(call.get());
+                }
+            } catch (Throwable e) {
+                completeExceptionally(e);
+            } finally {
+                synchronized (this) {
+                    worker = null;
+                }
+                // an interrupt that arrived after the call returned must not leak to the next task
+                Thread.interrupted();
+                onExit.run();
+            }
+        }
+
+        // The blocking client gives up on an interrupt; a running call that ignores it keeps the permit
+        // until it returns. A call that never started releases it now and will not start.
+        void abandon() {
+            synchronized (this) {
+                if (started) {
+                    if (worker != null) {
+                        worker.interrupt();
+                    }
+                    return;
+                }
+                abandoned = true;
+            }
+            onExit.run();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.skydiveforecast.infrastructure.ai;
+
+import lombok.Getter;
+
+// An LLM call turned away before it started because too many are running or waiting
+@Getter
+public class LlmRejectedException extends RuntimeException {
+
+    public enum Reason {
+        QUEUE_FULL,
+        USER_QUEUE_FULL,
+        WAIT_TIMEOUT
+    }
+
+    private final Reason reason;
+
+    public LlmRejectedException(Reason reason) {
+        super("LLM call rejected: " + reason.name().toLowerCase());
+        this.reason = reason;
+    }
+}
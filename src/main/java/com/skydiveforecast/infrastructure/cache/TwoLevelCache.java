@@ -0,0 +1,176 @@
+package com.skydiveforecast.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// In-process Caffeine tier in front of the shared remote (Redis) tier; remote hits are promoted locally.
+// Lookups are counted per tier as cache.gets{cache,level,result}, so a local miss that Redis answers is a
+// local miss and a remote hit; values loaded through the cache are timed as cache.load{cache,result}.
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+    private final Cache remoteCache;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Timer loadSuccess;
+    private final Timer loadFailure;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+                         Cache remoteCache,
+                         MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+
+        this.localHits = gets(meterRegistry, "local", "hit");
+        this.localMisses = gets(meterRegistry, "local", "miss");
+        this.remoteHits = gets(meterRegistry, "remote", "hit");
+        this.remoteMisses = gets(meterRegistry, "remote", "miss");
+        this.loadSuccess = Timer.builder("cache.load").tag("cache", name).tag("result", "success")
+                .register(meterRegistry);
+        this.loadFailure = Timer.builder("cache.load").tag("cache", name).tag("result", "failure")
+                .register(meterRegistry);
+    }
+
+    private Counter gets(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", name)
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = localCache.getIfPresent(key);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        localMisses.increment();
+
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue == null || remoteValue.get() == null) {
+            remoteMisses.increment();
+            return null;
+        }
+
+        remoteHits.increment();
+        value = remoteValue.get();
+        localCache.put(key, value);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) value;
+        }
+
+        T loaded;
+        long startedAt = System.nanoTime();
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            loadFailure.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        loadSuccess.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        if (loaded != null) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        Object value = localCache.getIfPresent(key);
+        if (value != null) {
+            localHits.increment();
+            return CompletableFuture.completedFuture(value);
+        }
+        localMisses.increment();
+
+        CompletableFuture<?> remoteValue = remoteCache.retrieve(key);
+        if (remoteValue == null) {
+            remoteMisses.increment();
+            return CompletableFuture.completedFuture(null);
+        }
+        return remoteValue.thenApply(found -> {
+            Object unwrapped = found instanceof ValueWrapper wrapper ? wrapper.get() : found;
+            if (unwrapped != null) {
+                remoteHits.increment();
+                localCache.put(key, unwrapped);
+            } else {
+                remoteMisses.increment();
+            }
+            return unwrapped;
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return retrieve(key).thenCompose(value -> {
+            if (value != null) {
+                return CompletableFuture.completedFuture((T) value);
+            }
+            long startedAt = System.nanoTime();
+            return valueLoader.get().whenComplete((loaded, error) ->
+                    (error == null ? loadSuccess : loadFailure)
+                            .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS))
+                    .thenApply(loaded -> {
+                        put(key, loaded);
+                        return loaded;
+                    });
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        remoteCache.put(key, value);
+        localCache.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        localCache.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+    }
+}
@@ -0,0 +1,51 @@
+package com.skydiveforecast.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final Caffeine<Object, Object> defaultLocalSpec;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Caffeine<Object, Object>> localSpecs = new ConcurrentHashMap<>();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, Caffeine<Object, Object> defaultLocalSpec,
+                                MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.defaultLocalSpec = defaultLocalSpec;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public TwoLevelCacheManager withLocalCache(String name, Caffeine<Object, Object> localSpec) {
+        localSpecs.put(name, localSpec);
+        return this;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            throw new IllegalStateException("No remote cache configured for name: " + name);
+        }
+        Caffeine<Object, Object> localSpec = localSpecs.getOrDefault(name, defaultLocalSpec);
+        return new TwoLevelCache(name, localSpec.build(), remoteCache, meterRegistry);
+    }
+}
@@ -1,6 +1,14 @@
 package com.skydiveforecast.infrastructure.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.skydiveforecast.domain.model.AiAnalysis;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.infrastructure.adapter.out.OpenMeteoModelRunSchedule;
+import com.skydiveforecast.infrastructure.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -9,6 +17,7 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -18,8 +27,19 @@ import java.time.Duration;
 @EnableCaching
 public class CacheConfig {
 
+    public static final String FORECAST_CACHE = "getHourlyForecastCache";
+    public static final String AI_ANALYSIS_CACHE = "aiAnalysisCache";
+    public static final String AI_NARRATIVE_CACHE = "aiNarrativeCache";
+
+    @Value("${cache.local.maximum-size:10000}")
+    private long localMaximumSize;
+
+    @Value("${cache.local.ttl:PT5M}")
+    private Duration localTtl;
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper,
+                                     OpenMeteoModelRunSchedule modelRunSchedule, MeterRegistry meterRegistry) {
         GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
 
         RedisCacheConfiguration cacheConfig = RedisCacheConfiguration.defaultCacheConfig()
@@ -30,8 +50,42 @@ public class CacheConfig {
             .serializeValuesWith(RedisSerializationContext.SerializationPair
                 .fromSerializer(serializer));
 
-        return RedisCacheManager.builder(connectionFactory)
+        // forecasts stay valid until Open-Meteo publishes the next model run
+        RedisCacheConfiguration forecastCacheConfig = cacheConfig
+            .entryTtl((key, value) -> modelRunSchedule.timeToNextModelRun())
+            .serializeValuesWith(RedisSerializationContext.SerializationPair
+                .fromSerializer(new Jackson2JsonRedisSerializer<>(objectMapper, Forecast.class)));
+
+        // analyses are built from forecasts, so they expire with them
+        RedisCacheConfiguration aiAnalysisCacheConfig = cacheConfig
+            .entryTtl((key, value) -> modelRunSchedule.timeToNextModelRun())
+            .serializeValuesWith(RedisSerializationContext.SerializationPair
+                .fromSerializer(new Jackson2JsonRedisSerializer<>(objectMapper, AiAnalysis.class)));
+
+        RedisCacheConfiguration aiNarrativeCacheConfig = cacheConfig
+            .entryTtl((key, value) -> modelRunSchedule.timeToNextModelRun())
+            .serializeValuesWith(RedisSerializationContext.SerializationPair
+                .fromSerializer(new Jackson2JsonRedisSerializer<>(objectMapper, String.class)));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
             .cacheDefaults(cacheConfig)
+            .withCacheConfiguration(FORECAST_CACHE, forecastCacheConfig)
+            .withCacheConfiguration(AI_ANALYSIS_CACHE, aiAnalysisCacheConfig)
+            .withCacheConfiguration(AI_NARRATIVE_CACHE, aiNarrativeCacheConfig)
             .build();
+        redisCacheManager.afterPropertiesSet();
+
+        Caffeine<Object, Object> defaultLocalSpec = Caffeine.newBuilder()
+            .maximumSize(localMaximumSize)
+            .expireAfterWrite(localTtl);
+
+        Caffeine<Object, Object> forecastLocalSpec = Caffeine.newBuilder()
+            .maximumSize(localMaximumSize)
+            .expireAfter(Expiry.creating((key, value) -> modelRunSchedule.timeToNextModelRun()));
+
+        return new TwoLevelCacheManager(redisCacheManager, defaultLocalSpec, meterRegistry)
+            .withLocalCache(FORECAST_CACHE, forecastLocalSpec)
+            .withLocalCache(AI_ANALYSIS_CACHE, forecastLocalSpec)
+            .withLocalCache(AI_NARRATIVE_CACHE, forecastLocalSpec);
     }
-}
\ No newline at end of file
+}
@@ -1,26 +1,94 @@
 package com.skydiveforecast.infrastructure.config;
 
+import com.skydiveforecast.infrastructure.adapter.in.web.dto.WeatherReportRequestDto;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.beans.BeanUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.Map;
 
 @Configuration
 public class KafkaConfig {
 
+    public static final String REPORT_REQUESTS_TOPIC = "weather-report-requests";
+    public static final String REPORT_REQUESTS_DLQ_TOPIC = "weather-report-requests-dlq";
+    public static final String REPORT_RESULTS_TOPIC = "weather-report-results";
+    public static final String REPORT_BATCH_LISTENER_FACTORY = "reportBatchListenerContainerFactory";
+
+    private static final int REPORT_TOPIC_PARTITIONS = 3;
+
     @Bean
     public NewTopic weatherReportRequestsTopic() {
-        return TopicBuilder.name("weather-report-requests")
-                .partitions(3)
+        return TopicBuilder.name(REPORT_REQUESTS_TOPIC)
+                .partitions(REPORT_TOPIC_PARTITIONS)
                 .replicas(1)
                 .build();
     }
 
     @Bean
     public NewTopic deadLetterTopic() {
-        return TopicBuilder.name("weather-report-requests-dlq")
+        return TopicBuilder.name(REPORT_REQUESTS_DLQ_TOPIC)
                 .partitions(1)
                 .replicas(1)
                 .build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    public NewTopic weatherReportResultsTopic() {
+        return TopicBuilder.name(REPORT_RESULTS_TOPIC)
+                .partitions(REPORT_TOPIC_PARTITIONS)
+                .replicas(1)
+                .build();
+    }
+
+    // One consumer per request partition, each handed whole poll batches. A failed batch is retried twice,
+    // 5s apart; if the listener names the failing record only that one goes to the DLQ (which has a single
+    // partition, so the source partition cannot be reused) and the records after it are redelivered.
+    @Bean(REPORT_BATCH_LISTENER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, WeatherReportRequestDto> reportBatchListenerContainerFactory(
+            ConsumerFactory<String, WeatherReportRequestDto> consumerFactory,
+            ProducerFactory<Object, Object> producerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, WeatherReportRequestDto> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(REPORT_TOPIC_PARTITIONS);
+
+        // not a bean, so the auto-configured KafkaTemplate stays in place
+        Map<String, Object> producerConfig = producerFactory.getConfigurationProperties();
+        KafkaTemplate<Object, Object> deadLetterTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                producerConfig, null, deadLetterValueSerializer(producerConfig)));
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(deadLetterTemplate,
+                (record, exception) -> new TopicPartition(REPORT_REQUESTS_DLQ_TOPIC, 0));
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, new FixedBackOff(5000, 2)));
+        return factory;
+    }
+
+    // A record the ErrorHandlingDeserializer could not read reaches the recoverer as the raw byte[]; it is
+    // written back unchanged, while records that failed later are written like any other report request.
+    static Serializer<Object> deadLetterValueSerializer(Map<String, Object> producerConfig) {
+        Object configured = producerConfig.get(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG);
+        Class<?> serializerClass = configured instanceof Class<?> type
+                ? type
+                : ClassUtils.resolveClassName(String.valueOf(configured), KafkaConfig.class.getClassLoader());
+        return new DelegatingByTypeSerializer(Map.of(
+                byte[].class, new ByteArraySerializer(),
+                Object.class, (Serializer<?>) BeanUtils.instantiateClass(serializerClass)), true);
+    }
+}
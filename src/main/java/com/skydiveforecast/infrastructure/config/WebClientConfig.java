@@ -5,6 +5,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.skydiveforecast.infrastructure.adapter.out.OpenMeteoForecastDecoder;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
@@ -12,8 +14,10 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -27,9 +31,26 @@ public class WebClientConfig {
     @Value("${location.service.read-timeout:5000}")
     private int readTimeout;
 
+    // sized for virtual-thread mode, where every blocked request holds a pooled connection
+    @Value("${http-client.max-connections:500}")
+    private int maxConnections;
+
+    @Value("${http-client.pending-acquire-max-count:1000}")
+    private int pendingAcquireMaxCount;
+
+    // a 50-location, 16-day batch is about 1.5 MB of JSON
+    @Value("${open-meteo.max-response-size:16MB}")
+    private DataSize openMeteoMaxResponseSize;
+
     @Bean
     public WebClient webClient() {
-        HttpClient httpClient = HttpClient.create()
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("web-client")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(connectionTimeout))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectionTimeout)
                 .responseTimeout(Duration.ofMillis(readTimeout))
                 .doOnConnected(conn ->
@@ -39,6 +60,8 @@ public class WebClientConfig {
 
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.customCodecs().register(
+                        new OpenMeteoForecastDecoder(new JsonFactory(), (int) openMeteoMaxResponseSize.toBytes())))
                 .build();
     }
 }
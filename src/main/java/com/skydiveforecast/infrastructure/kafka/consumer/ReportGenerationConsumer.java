@@ -1,24 +1,114 @@
 package com.skydiveforecast.infrastructure.kafka.consumer;
 
+import com.skydiveforecast.application.service.ReportGenerationService;
+import com.skydiveforecast.application.service.ReportService;
+import com.skydiveforecast.domain.model.ReportRequest;
+import com.skydiveforecast.domain.model.ReportStatus;
+import com.skydiveforecast.domain.model.WeatherReport;
 import com.skydiveforecast.infrastructure.adapter.in.web.dto.WeatherReportRequestDto;
-import lombok.RequiredArgsConstructor;
+import com.skydiveforecast.infrastructure.config.KafkaConfig;
+import com.skydiveforecast.infrastructure.kafka.producer.ReportResultProducer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.record.TimestampType;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Service;
-import org.springframework.kafka.annotation.RetryableTopic;
-import org.springframework.retry.annotation.Backoff;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+// Consumes report requests a poll batch at a time so a batch shares airport resolution and forecast
+// fetches. Consumer lag is reported by Boot's Kafka client metrics (kafka.consumer.fetch.manager.records.lag.max),
+// the time a request waited in the topic as weather.reports.request.queued.
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ReportGenerationConsumer {
 
-    @KafkaListener(topics = "weather-report-requests", groupId = "weather-report-group")
-    @RetryableTopic(attempts = "3", backoff = @Backoff(delay = 5000))
-    public void processReportRequest(@Payload WeatherReportRequestDto request,
-                                     @Header(KafkaHeaders.RECEIVED_KEY) String key) {
+    private final ReportGenerationService reportGenerationService;
+    private final ReportService reportService;
+    private final ReportResultProducer reportResultProducer;
+    private final Counter completedReports;
+    private final Counter failedReports;
+    private final DistributionSummary batchSize;
+    private final Timer batchTimer;
+    private final Timer queuedTimer;
+
+    public ReportGenerationConsumer(ReportGenerationService reportGenerationService,
+                                    ReportService reportService,
+                                    ReportResultProducer reportResultProducer,
+                                    MeterRegistry meterRegistry) {
+        this.reportGenerationService = reportGenerationService;
+        this.reportService = reportService;
+        this.reportResultProducer = reportResultProducer;
+        this.completedReports = Counter.builder("weather.reports.generated")
+                .tag("status", ReportStatus.COMPLETED.name().toLowerCase())
+                .register(meterRegistry);
+        this.failedReports = Counter.builder("weather.reports.generated")
+                .tag("status", ReportStatus.FAILED.name().toLowerCase())
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("weather.reports.batch.size")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("weather.reports.batch")
+                .register(meterRegistry);
+        this.queuedTimer = Timer.builder("weather.reports.request.queued")
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(topics = KafkaConfig.REPORT_REQUESTS_TOPIC, groupId = "weather-report-group",
+            containerFactory = KafkaConfig.REPORT_BATCH_LISTENER_FACTORY)
+    public void processReportRequests(List<ConsumerRecord<String, WeatherReportRequestDto>> records) {
+        // a record that could not be deserialized arrives with a null value; everything before it is
+        // processed and committed, the error handler sends it to the DLQ and redelivers the rest
+        int poisoned = -1;
+        for (int i = 0; i < records.size(); i++) {
+            if (records.get(i).value() == null) {
+                poisoned = i;
+                break;
+            }
+        }
+        List<ConsumerRecord<String, WeatherReportRequestDto>> valid =
+                poisoned < 0 ? records : records.subList(0, poisoned);
+
+        if (!valid.isEmpty()) {
+            batchTimer.record(() -> generateAndPublish(valid));
+        }
+        if (poisoned >= 0) {
+            throw new BatchListenerFailedException("Unreadable report request", records.get(poisoned));
+        }
+    }
+
+    private void generateAndPublish(List<ConsumerRecord<String, WeatherReportRequestDto>> records) {
+        long now = System.currentTimeMillis();
+        for (ConsumerRecord<String, WeatherReportRequestDto> record : records) {
+            if (record.timestampType() != TimestampType.NO_TIMESTAMP_TYPE) {
+                queuedTimer.record(Math.max(0, now - record.timestamp()), TimeUnit.MILLISECONDS);
+            }
+        }
+        List<ReportRequest> requests = records.stream()
+                .map(record -> toReportRequest(record.key(), record.value()))
+                .toList();
+        List<WeatherReport> reports = reportGenerationService.generate(requests);
+        // the offsets are committed only after every result is stored and acknowledged
+        reportService.saveResults(reports);
+        reportResultProducer.publish(reports).join();
+
+        batchSize.record(records.size());
+        reports.forEach(report -> (report.status() == ReportStatus.COMPLETED ? completedReports : failedReports)
+                .increment());
+        log.info("Generated {} weather reports", reports.size());
+    }
 
-        //TODO send it to proper service
+    private static ReportRequest toReportRequest(String key, WeatherReportRequestDto dto) {
+        String requestId = dto.getRequestId() != null ? dto.getRequestId() : key;
+        return new ReportRequest(requestId, dto.getUserId(), dto.getStartDate(), dto.getEndDate(),
+                dto.getAirportCodes() != null
+                        ? dto.getAirportCodes().stream().filter(Objects::nonNull).toList()
+                        : List.of());
     }
-}
\ No newline at end of file
+}
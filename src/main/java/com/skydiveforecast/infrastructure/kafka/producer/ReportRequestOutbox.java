@@ -0,0 +1,75 @@
+package com.skydiveforecast.infrastructure.kafka.producer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skydiveforecast.infrastructure.adapter.in.web.dto.WeatherReportRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ReportRequestOutbox {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void add(WeatherReportRequestDto request, String error, Instant now) {
+        jdbcTemplate.update("INSERT INTO report_request_outbox "
+                        + "(request_id, payload, attempts, last_error, created_at, next_attempt_at) "
+                        + "VALUES (?, CAST(? AS jsonb), 0, ?, ?, ?)",
+                request.getRequestId(), toJson(request), error, Timestamp.from(now), Timestamp.from(now));
+    }
+
+    // Claims due rows by moving next_attempt_at to leaseUntil, so other instances skip them until the lease
+    // runs out; one statement, so rows are locked only while it runs. Rows locked by a concurrent claim are
+    // skipped rather than waited for.
+    public List<Entry> claimDue(Instant now, int limit, Instant leaseUntil) {
+        return jdbcTemplate.query("UPDATE report_request_outbox SET next_attempt_at = ? WHERE id IN ("
+                        + "SELECT id FROM report_request_outbox WHERE next_attempt_at <= ? "
+                        + "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) "
+                        + "RETURNING id, payload, attempts",
+                (rs, rowNum) -> new Entry(rs.getLong("id"), fromJson(rs.getString("payload")), rs.getInt("attempts")),
+                Timestamp.from(leaseUntil), Timestamp.from(now), limit);
+    }
+
+    public void delete(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM report_request_outbox WHERE id = ?",
+                    ids.stream().map(id -> new Object[]{id}).toList());
+        }
+    }
+
+    public void markFailed(long id, String error, Instant nextAttemptAt) {
+        jdbcTemplate.update("UPDATE report_request_outbox SET attempts = attempts + 1, last_error = ?, "
+                + "next_attempt_at = ? WHERE id = ?", error, Timestamp.from(nextAttemptAt), id);
+    }
+
+    public long size() {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM report_request_outbox", Long.class);
+        return count != null ? count : 0;
+    }
+
+    private String toJson(WeatherReportRequestDto request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize report request", e);
+        }
+    }
+
+    private WeatherReportRequestDto fromJson(String payload) {
+        try {
+            return objectMapper.readValue(payload, WeatherReportRequestDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read report request from outbox", e);
+        }
+    }
+
+    public record Entry(long id, WeatherReportRequestDto request, int attempts) {}
+}
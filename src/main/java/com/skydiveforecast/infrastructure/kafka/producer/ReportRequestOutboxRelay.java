@@ -0,0 +1,113 @@
+package com.skydiveforecast.infrastructure.kafka.producer;
+
+import com.skydiveforecast.infrastructure.adapter.in.web.dto.WeatherReportRequestDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Re-sends parked report requests. Due rows are claimed with a lease first, so instances never send the same
+// row, then sent with no transaction or connection held while waiting on Kafka; a row is deleted once Kafka
+// acknowledges it and otherwise retried with exponential backoff. Rows of an instance that dies mid-send
+// become due again when the lease runs out.
+@Slf4j
+@Component
+public class ReportRequestOutboxRelay {
+
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final ReportRequestOutbox outbox;
+    private final ReportRequestProducer producer;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicLong size = new AtomicLong();
+
+    @Value("${reports.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${reports.outbox.send-timeout:PT10S}")
+    private Duration sendTimeout;
+
+    @Value("${reports.outbox.relay-interval:PT30S}")
+    private Duration relayInterval;
+
+    public ReportRequestOutboxRelay(ReportRequestOutbox outbox, ReportRequestProducer producer,
+                                    TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.outbox = outbox;
+        this.producer = producer;
+        this.transactionTemplate = transactionTemplate;
+        Gauge.builder("weather.reports.outbox.size", size, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${reports.outbox.relay-interval:PT30S}",
+            initialDelayString = "${reports.outbox.relay-interval:PT30S}")
+    public void relay() {
+        int relayed = relayDue(Instant.now());
+        if (relayed > 0) {
+            log.info("Relayed {} report requests from the outbox", relayed);
+        }
+        size.set(outbox.size());
+    }
+
+    int relayDue(Instant now) {
+        // the lease outlasts every send's wait, so a row is not claimed again while it is still being sent
+        Instant leaseUntil = now.plus(sendTimeout).plus(relayInterval);
+        List<ReportRequestOutbox.Entry> due = transactionTemplate.execute(
+                status -> outbox.claimDue(now, batchSize, leaseUntil));
+        if (due == null || due.isEmpty()) {
+            return 0;
+        }
+
+        Map<ReportRequestOutbox.Entry, CompletableFuture<SendResult<String, WeatherReportRequestDto>>> sends =
+                new LinkedHashMap<>();
+        for (ReportRequestOutbox.Entry entry : due) {
+            try {
+                sends.put(entry, producer.sendNow(entry.request()));
+            } catch (RuntimeException e) {
+                sends.put(entry, CompletableFuture.failedFuture(e));
+            }
+        }
+
+        // one deadline for the whole batch: the sends are in flight together
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        List<Long> sent = new ArrayList<>();
+        Map<ReportRequestOutbox.Entry, String> failed = new LinkedHashMap<>();
+        sends.forEach((entry, send) -> {
+            try {
+                send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sent.add(entry.id());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.put(entry, e.toString());
+            } catch (Exception e) {
+                failed.put(entry, e.toString());
+            }
+        });
+
+        Instant finishedAt = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.delete(sent);
+            failed.forEach((entry, error) ->
+                    outbox.markFailed(entry.id(), error, finishedAt.plus(backoff(entry.attempts()))));
+        });
+        return sent.size();
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = relayInterval.multipliedBy(1L << Math.min(attempts, 16));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+}
@@ -0,0 +1,102 @@
+package com.skydiveforecast.infrastructure.kafka.producer;
+
+import com.skydiveforecast.domain.model.ReportRequest;
+import com.skydiveforecast.domain.port.out.ReportRequestPublisher;
+import com.skydiveforecast.infrastructure.adapter.in.web.dto.WeatherReportRequestDto;
+import com.skydiveforecast.infrastructure.config.KafkaConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Sends report requests without waiting for the broker. A send that fails, at once or when the ack
+// times out, is parked in the outbox for ReportRequestOutboxRelay instead of being dropped.
+@Slf4j
+@Component
+public class ReportRequestProducer implements ReportRequestPublisher {
+
+    // outbox inserts after a failed ack; bounded so a database outage during a Kafka outage cannot pile up work
+    private static final int OUTBOX_WRITERS = 2;
+    private static final int OUTBOX_QUEUE = 1_000;
+
+    private final KafkaTemplate<String, WeatherReportRequestDto> kafkaTemplate;
+    private final ReportRequestOutbox outbox;
+    private final Counter parked;
+    private final ThreadPoolExecutor outboxWriter = new ThreadPoolExecutor(OUTBOX_WRITERS, OUTBOX_WRITERS,
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(OUTBOX_QUEUE),
+            Thread.ofPlatform().name("report-outbox-writer-", 0).daemon().factory());
+
+    public ReportRequestProducer(KafkaTemplate<String, WeatherReportRequestDto> kafkaTemplate,
+                                 ReportRequestOutbox outbox, MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.outbox = outbox;
+        this.parked = Counter.builder("weather.reports.outbox.parked").register(meterRegistry);
+    }
+
+    @Override
+    public void publish(ReportRequest request) {
+        WeatherReportRequestDto dto = new WeatherReportRequestDto();
+        dto.setRequestId(request.requestId());
+        dto.setStartDate(request.startDate());
+        dto.setEndDate(request.endDate());
+        dto.setAirportCodes(request.airportCodes());
+        dto.setUserId(request.userId());
+        send(dto);
+    }
+
+    public void send(WeatherReportRequestDto request) {
+        CompletableFuture<SendResult<String, WeatherReportRequestDto>> send;
+        try {
+            send = sendNow(request);
+        } catch (RuntimeException e) {
+            park(request, e);
+            return;
+        }
+        // the callback runs on the producer's I/O thread, so the JDBC insert is handed to the outbox writer
+        send.whenComplete((result, error) -> {
+            if (error != null) {
+                parkLater(request, error);
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        outboxWriter.shutdown();
+    }
+
+    CompletableFuture<SendResult<String, WeatherReportRequestDto>> sendNow(WeatherReportRequestDto request) {
+        return kafkaTemplate.send(KafkaConfig.REPORT_REQUESTS_TOPIC, request.getRequestId(), request);
+    }
+
+    private void parkLater(WeatherReportRequestDto request, Throwable error) {
+        try {
+            outboxWriter.execute(() -> park(request, error));
+        } catch (RejectedExecutionException e) {
+            log.error("Report request {} lost: Kafka did not take it and the outbox writer is saturated",
+                    request.getRequestId());
+        }
+    }
+
+    private void park(WeatherReportRequestDto request, Throwable error) {
+        log.warn("Kafka did not take report request {}, parking it in the outbox: {}",
+                request.getRequestId(), error.toString());
+        try {
+            outbox.add(request, error.toString(), Instant.now());
+            parked.increment();
+        } catch (DataAccessException e) {
+            log.error("Report request {} lost: neither Kafka nor the outbox accepted it", request.getRequestId(), e);
+        }
+    }
+}
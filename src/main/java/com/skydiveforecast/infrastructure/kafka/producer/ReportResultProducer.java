@@ -0,0 +1,26 @@
+package com.skydiveforecast.infrastructure.kafka.producer;
+
+import com.skydiveforecast.domain.model.WeatherReport;
+import com.skydiveforecast.infrastructure.config.KafkaConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@RequiredArgsConstructor
+public class ReportResultProducer {
+
+    private final KafkaTemplate<String, WeatherReport> kafkaTemplate;
+
+    // keyed by requestId so every result for a request lands on the same partition;
+    // completes once all reports are acknowledged, or exceptionally with the first failure
+    public CompletableFuture<Void> publish(List<WeatherReport> reports) {
+        CompletableFuture<?>[] sends = reports.stream()
+                .map(report -> kafkaTemplate.send(KafkaConfig.REPORT_RESULTS_TOPIC, report.requestId(), report))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(sends);
+    }
+}
@@ -0,0 +1,325 @@
+package com.skydiveforecast.infrastructure.kafka.serialization;
+
+import com.skydiveforecast.domain.model.AirportReport;
+import com.skydiveforecast.domain.model.DailyJumpability;
+import com.skydiveforecast.domain.model.DayNarrative;
+import com.skydiveforecast.domain.model.JumpWindow;
+import com.skydiveforecast.domain.model.ReportStatus;
+import com.skydiveforecast.domain.model.WeatherReport;
+import com.skydiveforecast.infrastructure.adapter.in.web.dto.WeatherReportRequestDto;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Fixed-layout binary form of the report messages: a magic byte, a type tag, then the fields in declaration
+// order. Strings are length-prefixed UTF-8 with -1 for null, dates are epoch days, and lists are
+// count-prefixed. The magic byte is not valid as the first byte of UTF-8 JSON, so readers can tell
+// the two formats apart.
+public final class CompactBinaryCodec {
+
+    public static final byte MAGIC = (byte) 0xC1;
+
+    static final byte REPORT_REQUEST = 1;
+    // without narratives; still read, no longer written
+    static final byte WEATHER_REPORT = 2;
+    static final byte WEATHER_REPORT_WITH_NARRATIVES = 3;
+
+    // fixed wire codes, independent of the enum's declaration order; never reuse or renumber one
+    private static final byte STATUS_PENDING = 0;
+    private static final byte STATUS_COMPLETED = 1;
+    private static final byte STATUS_FAILED = 2;
+
+    private static final int NULL_LENGTH = -1;
+    private static final long NULL_DAY = Long.MIN_VALUE;
+
+    private CompactBinaryCodec() {
+    }
+
+    public static boolean supports(Object value) {
+        return value instanceof WeatherReportRequestDto || value instanceof WeatherReport;
+    }
+
+    public static boolean isCompact(byte[] data) {
+        return data != null && data.length > 1 && data[0] == MAGIC;
+    }
+
+    public static byte[] encode(Object value) {
+        Output out = new Output();
+        out.writeByte(MAGIC);
+        if (value instanceof WeatherReportRequestDto request) {
+            out.writeByte(REPORT_REQUEST);
+            writeRequest(out, request);
+        } else if (value instanceof WeatherReport report) {
+            out.writeByte(WEATHER_REPORT_WITH_NARRATIVES);
+            writeReport(out, report);
+        } else {
+            throw new IllegalArgumentException("No compact form for " + value.getClass().getName());
+        }
+        return out.toByteArray();
+    }
+
+    public static Object decode(byte[] data) {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        try {
+            if (in.get() != MAGIC) {
+                throw new SerializationException("Not a compact binary message");
+            }
+            byte type = in.get();
+            return switch (type) {
+                case REPORT_REQUEST -> readRequest(in);
+                case WEATHER_REPORT -> readReport(in, false);
+                case WEATHER_REPORT_WITH_NARRATIVES -> readReport(in, true);
+                default -> throw new SerializationException("Unknown compact message type " + type);
+            };
+        } catch (BufferUnderflowException e) {
+            throw new SerializationException("Truncated compact binary message", e);
+        }
+    }
+
+    private static void writeRequest(Output out, WeatherReportRequestDto request) {
+        writeString(out, request.getRequestId());
+        writeDate(out, request.getStartDate());
+        writeDate(out, request.getEndDate());
+        writeStrings(out, request.getAirportCodes());
+        writeString(out, request.getUserId());
+    }
+
+    private static WeatherReportRequestDto readRequest(ByteBuffer in) {
+        WeatherReportRequestDto request = new WeatherReportRequestDto();
+        request.setRequestId(readString(in));
+        request.setStartDate(readDate(in));
+        request.setEndDate(readDate(in));
+        request.setAirportCodes(readStrings(in));
+        request.setUserId(readString(in));
+        return request;
+    }
+
+    private static void writeReport(Output out, WeatherReport report) {
+        writeString(out, report.requestId());
+        writeString(out, report.userId());
+        out.writeByte(statusCode(report.status()));
+        writeDate(out, report.startDate());
+        writeDate(out, report.endDate());
+        out.writeLong(report.generatedAt().getEpochSecond());
+        out.writeInt(report.generatedAt().getNano());
+        out.writeInt(report.airports().size());
+        for (AirportReport airport : report.airports()) {
+            writeString(out, airport.code());
+            out.writeBoolean(airport.dropzoneId() != null);
+            if (airport.dropzoneId() != null) {
+                out.writeLong(airport.dropzoneId());
+            }
+            writeString(out, airport.name());
+            out.writeInt(airport.days().size());
+            for (DailyJumpability day : airport.days()) {
+                writeDate(out, day.date());
+                out.writeByte(day.score());
+                out.writeByte(day.goHours());
+                out.writeBoolean(day.go());
+            }
+            out.writeInt(airport.windows().size());
+            for (JumpWindow window : airport.windows()) {
+                writeDateTime(out, window.start());
+                writeDateTime(out, window.end());
+                out.writeByte(window.score());
+            }
+            List<DayNarrative> narratives = airport.narratives() != null ? airport.narratives() : List.of();
+            out.writeInt(narratives.size());
+            for (DayNarrative narrative : narratives) {
+                writeDate(out, narrative.date());
+                writeString(out, narrative.text());
+            }
+        }
+        writeStrings(out, report.unknownAirports());
+        writeString(out, report.error());
+    }
+
+    private static WeatherReport readReport(ByteBuffer in, boolean withNarratives) {
+        String requestId = readString(in);
+        String userId = readString(in);
+        ReportStatus status = status(in.get());
+        LocalDate startDate = readDate(in);
+        LocalDate endDate = readDate(in);
+        Instant generatedAt = Instant.ofEpochSecond(in.getLong(), in.getInt());
+        int airportCount = readCount(in);
+        List<AirportReport> airports = new ArrayList<>(airportCount);
+        for (int a = 0; a < airportCount; a++) {
+            String code = readString(in);
+            Long dropzoneId = (in.get() != 0) ? in.getLong() : null;
+            String name = readString(in);
+            int dayCount = readCount(in);
+            List<DailyJumpability> days = new ArrayList<>(dayCount);
+            for (int d = 0; d < dayCount; d++) {
+                days.add(new DailyJumpability(readDate(in), Byte.toUnsignedInt(in.get()), Byte.toUnsignedInt(in.get()),
+                        (in.get() != 0)));
+            }
+            int windowCount = readCount(in);
+            List<JumpWindow> windows = new ArrayList<>(windowCount);
+            for (int w = 0; w < windowCount; w++) {
+                windows.add(new JumpWindow(readDateTime(in), readDateTime(in), Byte.toUnsignedInt(in.get())));
+            }
+            List<DayNarrative> narratives = List.of();
+            if (withNarratives) {
+                int narrativeCount = readCount(in);
+                narratives = new ArrayList<>(narrativeCount);
+                for (int n = 0; n < narrativeCount; n++) {
+                    narratives.add(new DayNarrative(readDate(in), readString(in)));
+                }
+            }
+            airports.add(new AirportReport(code, dropzoneId, name, days, windows, narratives));
+        }
+        List<String> unknownAirports = readStrings(in);
+        String error = readString(in);
+        return new WeatherReport(requestId, userId, status, startDate, endDate, generatedAt, airports,
+                unknownAirports != null ? unknownAirports : List.of(), error);
+    }
+
+    private static byte statusCode(ReportStatus status) {
+        return switch (status) {
+            case PENDING -> STATUS_PENDING;
+            case COMPLETED -> STATUS_COMPLETED;
+            case FAILED -> STATUS_FAILED;
+        };
+    }
+
+    private static ReportStatus status(byte code) {
+        return switch (code) {
+            case STATUS_PENDING -> ReportStatus.PENDING;
+            case STATUS_COMPLETED -> ReportStatus.COMPLETED;
+            case STATUS_FAILED -> ReportStatus.FAILED;
+            default -> throw new SerializationException("Unknown report status code " + code);
+        };
+    }
+
+    private static void writeString(Output out, String value) {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        checkLength(in, length);
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static void writeStrings(Output out, List<String> values) {
+        if (values == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readStrings(ByteBuffer in) {
+        int size = in.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        checkLength(in, size);
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static int readCount(ByteBuffer in) {
+        int count = in.getInt();
+        checkLength(in, count);
+        return count;
+    }
+
+    // every string byte and list element takes at least one byte of what is left, so a corrupt length
+    // is caught here instead of sizing an allocation or reading past the buffer
+    private static void checkLength(ByteBuffer in, int length) {
+        if (length < 0 || length > in.remaining()) {
+            throw new SerializationException("Invalid length " + length + " with " + in.remaining()
+                    + " bytes left in compact binary message");
+        }
+    }
+
+    private static void writeDate(Output out, LocalDate date) {
+        out.writeLong(date != null ? date.toEpochDay() : NULL_DAY);
+    }
+
+    private static LocalDate readDate(ByteBuffer in) {
+        long day = in.getLong();
+        return day == NULL_DAY ? null : LocalDate.ofEpochDay(day);
+    }
+
+    private static void writeDateTime(Output out, LocalDateTime dateTime) {
+        out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(dateTime.getNano());
+    }
+
+    private static LocalDateTime readDateTime(ByteBuffer in) {
+        return LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+    }
+
+    // DataOutputStream over ByteArrayOutputStream without the per-write synchronization and stream layers
+    private static final class Output {
+
+        private byte[] buffer = new byte[256];
+        private int size;
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void writeBoolean(boolean value) {
+            writeByte(value ? 1 : 0);
+        }
+
+        void writeInt(int value) {
+            ensure(4);
+            buffer[size++] = (byte) (value >>> 24);
+            buffer[size++] = (byte) (value >>> 16);
+            buffer[size++] = (byte) (value >>> 8);
+            buffer[size++] = (byte) value;
+        }
+
+        void writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+
+        void write(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.skydiveforecast.infrastructure.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+// GET /actuator/forecastprewarm: warm coverage and refresh age per dropzone
+@Component
+@Endpoint(id = "forecastprewarm")
+@RequiredArgsConstructor
+public class ForecastPrewarmEndpoint {
+
+    private final ForecastPrewarmScheduler scheduler;
+
+    @ReadOperation
+    public PrewarmStatus status() {
+        return scheduler.status();
+    }
+}
@@ -0,0 +1,224 @@
+package com.skydiveforecast.infrastructure.scheduling;
+
+import com.skydiveforecast.application.service.DropzoneService;
+import com.skydiveforecast.application.service.ForecastDemandTracker;
+import com.skydiveforecast.application.service.ForecastService;
+import com.skydiveforecast.application.service.JumpabilityService;
+import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.GeoPoint;
+import com.skydiveforecast.domain.model.HourlySeries;
+import com.skydiveforecast.infrastructure.adapter.out.OpenMeteoModelRunSchedule;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// After each model run lands, fetches the next days of forecasts for every dropzone into the cache and
+// re-scores them, busiest areas first. Batches run with bounded concurrency, each upstream batch waits for
+// a rate limiter permit, and a Redis lease keeps it to one pod per model run.
+@Slf4j
+@Component
+public class ForecastPrewarmScheduler {
+
+    public static final String RATE_LIMITER = "openMeteoPrewarm";
+
+    private final DropzoneService dropzoneService;
+    private final ForecastService forecastService;
+    private final JumpabilityService jumpabilityService;
+    private final ForecastDemandTracker demandTracker;
+    private final OpenMeteoModelRunSchedule modelRunSchedule;
+    private final PrewarmLease lease;
+    private final RateLimiter rateLimiter;
+
+    private final Map<Long, Instant> lastRefreshed = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+    // coverage as of the last prewarm cycle, so a metrics scrape does not walk the whole catalog
+    private final AtomicReference<Double> coveragePct = new AtomicReference<>(0.0);
+    private volatile List<Dropzone> catalog = List.of();
+    private volatile Instant warmedModelRun;
+    private volatile Instant lastStartedAt;
+    private volatile Instant lastCompletedAt;
+
+    @Value("${forecast.prewarm.enabled:true}")
+    private boolean enabled;
+
+    @Value("${forecast.prewarm.days:7}")
+    private int days;
+
+    @Value("${forecast.prewarm.batch-size:50}")
+    private int batchSize;
+
+    @Value("${forecast.prewarm.concurrency:2}")
+    private int concurrency;
+
+    public ForecastPrewarmScheduler(DropzoneService dropzoneService, ForecastService forecastService,
+                                    JumpabilityService jumpabilityService, ForecastDemandTracker demandTracker,
+                                    OpenMeteoModelRunSchedule modelRunSchedule, PrewarmLease lease,
+                                    RateLimiterRegistry rateLimiterRegistry, MeterRegistry meterRegistry) {
+        this.dropzoneService = dropzoneService;
+        this.forecastService = forecastService;
+        this.jumpabilityService = jumpabilityService;
+        this.demandTracker = demandTracker;
+        this.modelRunSchedule = modelRunSchedule;
+        this.lease = lease;
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(RATE_LIMITER);
+
+        Gauge.builder("forecast.prewarm.coverage", coveragePct, AtomicReference::get)
+                .description("Share of dropzones warmed for the current model run, in percent")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${forecast.prewarm.check-interval:PT1M}",
+            initialDelayString = "${forecast.prewarm.initial-delay:PT30S}")
+    public void warmAfterModelRun() {
+        if (!enabled) {
+            return;
+        }
+        Instant modelRun = modelRunSchedule.currentModelRunAvailableAt();
+        if (modelRun.equals(warmedModelRun)) {
+            return;
+        }
+        if (lease.isDone(modelRun)) {
+            warmedModelRun = modelRun;
+            return;
+        }
+        if (!lease.tryAcquire(modelRun)) {
+            return;
+        }
+
+        try {
+            warm(modelRun);
+            lease.complete(modelRun);
+            warmedModelRun = modelRun;
+        } catch (RuntimeException e) {
+            log.error("Forecast prewarm for model run {} failed: {}", modelRun, e.getMessage());
+            lease.release(modelRun);
+        }
+    }
+
+    void warm(Instant modelRun) {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Dropzone> dropzones = loadCatalog();
+            catalog = dropzones;
+            lastStartedAt = Instant.now();
+
+            LocalDate startDate = LocalDate.now(ZoneOffset.UTC);
+            LocalDate endDate = startDate.plusDays(days - 1L);
+            List<List<Dropzone>> batches = batches(byDemand(dropzones));
+            log.info("Prewarming {} dropzones for model run {} in {} batches", dropzones.size(), modelRun,
+                    batches.size());
+
+            Flux.fromIterable(batches)
+                    .flatMap(batch -> Mono.fromRunnable(() -> warmBatch(batch, startDate, endDate))
+                            .subscribeOn(Schedulers.boundedElastic()), concurrency)
+                    .blockLast();
+
+            demandTracker.decay();
+            lastCompletedAt = Instant.now();
+            coveragePct.set(status().coveragePct());
+            log.info("Prewarm for model run {} done, coverage {}%", modelRun, coveragePct.get());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // a failing batch is logged and skipped; its dropzones stay cold until the next run or a user request
+    private void warmBatch(List<Dropzone> batch, LocalDate startDate, LocalDate endDate) {
+        try {
+            RateLimiter.waitForPermission(rateLimiter);
+            List<GeoPoint> locations = batch.stream()
+                    .map(d -> new GeoPoint(d.getLatitude().doubleValue(), d.getLongitude().doubleValue()))
+                    .toList();
+            List<Forecast> forecasts = forecastService.getForecasts(locations, startDate, endDate);
+
+            Instant refreshedAt = Instant.now();
+            for (int i = 0; i < batch.size(); i++) {
+                Dropzone dropzone = batch.get(i);
+                Forecast forecast = forecasts.get(i);
+                jumpabilityService.update(dropzone, forecast);
+                if (covers(forecast.series(), startDate, endDate)) {
+                    lastRefreshed.put(dropzone.getId(), refreshedAt);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Prewarm batch of {} dropzones failed: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    // the circuit breaker fallback serves partial forecasts from cache; those do not count as warm
+    private static boolean covers(HourlySeries series, LocalDate startDate, LocalDate endDate) {
+        return !series.isEmpty()
+                && series.localEpochDay(0) <= startDate.toEpochDay()
+                && series.localEpochDay(series.size() - 1) >= endDate.toEpochDay();
+    }
+
+    private List<Dropzone> loadCatalog() {
+        return dropzoneService.getCatalogWithoutUser().stream()
+                .filter(d -> d.getId() != null && d.getLatitude() != null && d.getLongitude() != null)
+                .toList();
+    }
+
+    // stable sort, so equally busy dropzones keep catalog order
+    private List<Dropzone> byDemand(List<Dropzone> dropzones) {
+        return dropzones.stream()
+                .sorted(Comparator.comparingLong(this::demand).reversed())
+                .toList();
+    }
+
+    private long demand(Dropzone dropzone) {
+        return demandTracker.demand(dropzone.getLatitude().doubleValue(), dropzone.getLongitude().doubleValue());
+    }
+
+    private List<List<Dropzone>> batches(List<Dropzone> dropzones) {
+        List<List<Dropzone>> batches = new ArrayList<>();
+        for (int from = 0; from < dropzones.size(); from += batchSize) {
+            batches.add(dropzones.subList(from, Math.min(from + batchSize, dropzones.size())));
+        }
+        return batches;
+    }
+
+    // refresh times are local to this pod: only the pod that held the lease for a run reports it warm
+    public PrewarmStatus status() {
+        Instant now = Instant.now();
+        Instant modelRun = modelRunSchedule.currentModelRunAvailableAt();
+        List<Dropzone> dropzones = catalog;
+
+        List<PrewarmStatus.DropzoneWarmth> warmth = new ArrayList<>(dropzones.size());
+        int warm = 0;
+        for (Dropzone dropzone : dropzones) {
+            Instant refreshedAt = lastRefreshed.get(dropzone.getId());
+            boolean current = refreshedAt != null && !refreshedAt.isBefore(modelRun);
+            if (current) {
+                warm++;
+            }
+            warmth.add(new PrewarmStatus.DropzoneWarmth(dropzone.getId(), dropzone.getName(), demand(dropzone),
+                    current, refreshedAt, refreshedAt != null ? Duration.between(refreshedAt, now).toSeconds() : null));
+        }
+        double coveragePct = dropzones.isEmpty() ? 0 : 100.0 * warm / dropzones.size();
+        return new PrewarmStatus(modelRun, warmedModelRun, lastStartedAt, lastCompletedAt, dropzones.size(), warm,
+                coveragePct, warmth);
+    }
+}
@@ -0,0 +1,78 @@
+package com.skydiveforecast.infrastructure.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// One pod warms each model run: SET NX PX takes the lease, a done marker stops the other pods from
+// trying again for that run. If the holder dies, its lease expires and another pod takes over.
+// When Redis is unreachable nobody warms, rather than every pod hitting Open-Meteo at once.
+@Slf4j
+@Component
+public class PrewarmLease {
+
+    private static final String LEASE_KEY = "forecast-prewarm:lease:";
+    private static final String DONE_KEY = "forecast-prewarm:done:";
+
+    private static final RedisScript<Long> RELEASE_IF_OWNER = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration leaseTtl;
+    private final Duration doneTtl;
+    private final String owner = UUID.randomUUID().toString();
+
+    public PrewarmLease(StringRedisTemplate redisTemplate,
+                        @Value("${forecast.prewarm.lease-ttl:PT15M}") Duration leaseTtl,
+                        @Value("${open-meteo.model-update-interval:PT3H}") Duration doneTtl) {
+        this.redisTemplate = redisTemplate;
+        this.leaseTtl = leaseTtl;
+        this.doneTtl = doneTtl;
+    }
+
+    public boolean isDone(Instant modelRun) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(DONE_KEY + modelRun.toEpochMilli()));
+        } catch (DataAccessException e) {
+            log.warn("Prewarm lease check failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean tryAcquire(Instant modelRun) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(LEASE_KEY + modelRun.toEpochMilli(), owner, leaseTtl));
+        } catch (DataAccessException e) {
+            log.warn("Prewarm lease not acquired, Redis unavailable: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public void complete(Instant modelRun) {
+        try {
+            redisTemplate.opsForValue().set(DONE_KEY + modelRun.toEpochMilli(), owner, doneTtl);
+        } catch (DataAccessException e) {
+            log.warn("Prewarm done marker not written: {}", e.getMessage());
+        }
+        release(modelRun);
+    }
+
+    public void release(Instant modelRun) {
+        try {
+            redisTemplate.execute(RELEASE_IF_OWNER, List.of(LEASE_KEY + modelRun.toEpochMilli()), owner);
+        } catch (DataAccessException e) {
+            log.warn("Prewarm lease not released, it expires in {}: {}", leaseTtl, e.getMessage());
+        }
+    }
+}
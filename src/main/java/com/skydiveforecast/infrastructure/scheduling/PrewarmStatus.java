@@ -0,0 +1,25 @@
+package com.skydiveforecast.infrastructure.scheduling;
+
+import java.time.Instant;
+import java.util.List;
+
+public record PrewarmStatus(
+        Instant modelRunAvailableAt,
+        Instant warmedModelRun,
+        Instant lastStartedAt,
+        Instant lastCompletedAt,
+        int dropzones,
+        int warmDropzones,
+        double coveragePct,
+        List<DropzoneWarmth> perDropzone
+) {
+
+    public record DropzoneWarmth(
+            Long id,
+            String name,
+            long demand,
+            boolean warm,
+            Instant lastRefreshedAt,
+            Long refreshAgeSeconds
+    ) {}
+}
@@ -1,45 +1,111 @@
 package com.skydiveforecast.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.skydiveforecast.domain.model.VerifiedClaims;
 import com.skydiveforecast.domain.service.AuthService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final JwtParser jwtParser;
+    private final Clock clock;
+    private final Duration maxCacheTtl;
 
+    // keyed by the token's SHA-256, so raw tokens are not kept in memory longer than the request
+    private final Cache<String, VerifiedClaims> verifiedTokens;
 
-    private Key getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    private final MeterRegistry meterRegistry;
+    private final Timer cachedVerifications;
+    private final Timer signatureVerifications;
+    private final Timer failedVerifications;
+
+    @Autowired
+    public AuthServiceImpl(@Value("${jwt.secret}") String secretKey,
+                           @Value("${jwt.claims-cache.maximum-size:10000}") long cacheMaximumSize,
+                           @Value("${jwt.claims-cache.max-ttl:PT10M}") Duration maxCacheTtl,
+                           MeterRegistry meterRegistry) {
+        this(secretKey, cacheMaximumSize, maxCacheTtl, Clock.systemUTC(), meterRegistry);
+    }
+
+    AuthServiceImpl(String secretKey, long cacheMaximumSize, Duration maxCacheTtl, Clock clock,
+                    MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.maxCacheTtl = maxCacheTtl;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)))
+                .clock(() -> Date.from(clock.instant()))
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .expireAfter(Expiry.creating((String tokenHash, VerifiedClaims claims) -> cacheTtl(claims)))
+                .build();
+
+        this.meterRegistry = meterRegistry;
+        this.cachedVerifications = Timer.builder("jwt.verify").tag("result", "cached").register(meterRegistry);
+        this.signatureVerifications = Timer.builder("jwt.verify").tag("result", "verified")
+                .register(meterRegistry);
+        this.failedVerifications = Timer.builder("jwt.verify").tag("result", "invalid").register(meterRegistry);
+    }
+
+    // timed per outcome: a cache hit costs a hash, a miss a signature check
+    @Override
+    public VerifiedClaims verify(String token) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String tokenHash = sha256(token);
+        VerifiedClaims cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && !cached.isExpiredAt(clock.instant())) {
+            sample.stop(cachedVerifications);
+            return cached;
+        }
+
+        VerifiedClaims claims;
+        try {
+            claims = toVerifiedClaims(jwtParser.parseSignedClaims(token).getPayload());
+        } catch (RuntimeException e) {
+            sample.stop(failedVerifications);
+            throw e;
+        }
+        verifiedTokens.put(tokenHash, claims);
+        sample.stop(signatureVerifications);
+        return claims;
     }
 
     @Override
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).username();
     }
 
     @Override
     public boolean validateToken(String token, UserDetails userDetails) {
         final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return username.equals(userDetails.getUsername());
     }
 
     @Override
@@ -54,7 +120,8 @@ public class AuthServiceImpl implements AuthService {
     @Override
     public boolean isTokenValid(String token) {
         try {
-            return !isTokenExpired(token);
+            verify(token);
+            return true;
         } catch (Exception e) {
             return false;
         }
@@ -62,43 +129,61 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public Long extractUserId(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get("userId", Long.class);
+        return verify(token).userId();
     }
 
     @Override
     public Set<String> extractRoles(String token) {
-        Claims claims = extractAllClaims(token);
-        List<String> rolesList = claims.get("roles", List.class);
-        return rolesList != null ? new HashSet<>(rolesList) : new HashSet<>();
+        return new HashSet<>(verify(token).roles());
     }
 
     @Override
     public Set<String> extractPermissions(String token) {
-        Claims claims = extractAllClaims(token);
-        List<String> permissionsList = claims.get("permissions", List.class);
-        return permissionsList != null ? new HashSet<>(permissionsList) : new HashSet<>();
+        return new HashSet<>(verify(token).permissions());
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    private VerifiedClaims toVerifiedClaims(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return new VerifiedClaims(
+                claims.getSubject(),
+                claims.get("userId", Long.class),
+                stringSet(claims.get("roles", List.class)),
+                stringSet(claims.get("permissions", List.class)),
+                expiration != null ? expiration.toInstant() : null
+        );
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private static Set<String> stringSet(List<?> values) {
+        if (values == null) {
+            return Set.of();
+        }
+        Set<String> strings = new HashSet<>();
+        for (Object value : values) {
+            if (value != null) {
+                strings.add(value.toString());
+            }
+        }
+        return Set.copyOf(strings);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    // never outlives the token itself
+    private Duration cacheTtl(VerifiedClaims claims) {
+        Duration ttl = maxCacheTtl;
+        if (claims.expiresAt() != null) {
+            Duration untilExpiry = Duration.between(clock.instant(), claims.expiresAt());
+            if (untilExpiry.compareTo(ttl) < 0) {
+                ttl = untilExpiry.isNegative() ? Duration.ZERO : untilExpiry;
+            }
+        }
+        return ttl;
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
-
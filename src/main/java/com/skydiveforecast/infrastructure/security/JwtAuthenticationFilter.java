@@ -1,5 +1,6 @@
 package com.skydiveforecast.infrastructure.security;
 
+import com.skydiveforecast.domain.model.VerifiedClaims;
 import com.skydiveforecast.domain.service.AuthService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -33,19 +34,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
         String jwt = null;
+        VerifiedClaims claims = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             jwt = authorizationHeader.substring(7);
             try {
-                username = authService.extractUsername(jwt);
-
-                if (!authService.isTokenValid(jwt)) {
-                    SecurityContextHolder.clearContext();
-                    filterChain.doFilter(request, response);
-                    return;
-                }
+                // one signature check per request; repeat tokens are answered from AuthService's cache
+                claims = authService.verify(jwt);
             } catch (Exception e) {
                 logger.error("Error processing JWT token", e);
                 SecurityContextHolder.clearContext();
@@ -54,12 +50,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
         }
 
+        String username = claims != null ? claims.username() : null;
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
 
-            if (authService.validateToken(jwt, userDetails)) {
-                Set<String> roles = authService.extractRoles(jwt);
-                Set<String> permissions = authService.extractPermissions(jwt);
+            if (username.equals(userDetails.getUsername())) {
+                Set<String> roles = claims.roles();
+                Set<String> permissions = claims.permissions();
 
                 if (userDetails instanceof CustomUserPrincipal customUserPrincipal) {
                     CustomUserPrincipal enhancedPrincipal = new CustomUserPrincipal(
@@ -73,12 +70,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     );
 
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            enhancedPrincipal, null, enhancedPrincipal.getAuthorities());
+                            enhancedPrincipal, jwt, enhancedPrincipal.getAuthorities());
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 } else {
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
+                            userDetails, jwt, userDetails.getAuthorities());
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
@@ -9,8 +9,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.Set;
-
 @Service
 @RequiredArgsConstructor
 public class PermissionSecurityService {
@@ -33,12 +31,11 @@ public class PermissionSecurityService {
         // Fallback to extracting permissions from the token
         try {
             String token = extractTokenFromRequest();
-            if (token == null || !authService.isTokenValid(token)) {
+            if (token == null) {
                 return false;
             }
 
-            Set<String> userPermissions = authService.extractPermissions(token);
-            return userPermissions.contains(permission);
+            return authService.verify(token).permissions().contains(permission);
 
         } catch (Exception e) {
             return false;
@@ -0,0 +1,44 @@
+package com.skydiveforecast;
+
+import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.HourlySeries;
+import com.skydiveforecast.domain.model.WeatherPoint;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Test data shared across test classes: a day of otherwise steady, jumpable weather in which only the gusts
+// vary, and dropzones placed by coordinates
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    public static List<WeatherPoint> day(LocalDate date, double gusts) {
+        List<WeatherPoint> hours = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour++) {
+            hours.add(new WeatherPoint(date.atTime(hour, 0), 15.0, 10.0, gusts, 180, 20, 0.0, 20000, 1015.0));
+        }
+        return hours;
+    }
+
+    public static Forecast forecast(LocalDate date, double gusts) {
+        return new Forecast(52.22, 21.02, day(date, gusts));
+    }
+
+    public static HourlySeries series(LocalDate date, double gusts) {
+        return HourlySeries.fromPoints(day(date, gusts));
+    }
+
+    public static Dropzone dropzone(Long id, String latitude, String longitude) {
+        return Dropzone.builder()
+                .id(id)
+                .name("Dropzone " + id)
+                .latitude(new BigDecimal(latitude))
+                .longitude(new BigDecimal(longitude))
+                .build();
+    }
+}
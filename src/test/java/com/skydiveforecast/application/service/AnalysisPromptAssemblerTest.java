@@ -0,0 +1,57 @@
+package com.skydiveforecast.application.service;
+
+import com.skydiveforecast.domain.model.AnalysisPrompt;
+import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.model.HourlySeries;
+import com.skydiveforecast.domain.model.JumpRules;
+import com.skydiveforecast.domain.service.JumpabilityScorer;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static com.skydiveforecast.TestFixtures.series;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalysisPromptAssemblerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 6, 1);
+
+    private final AnalysisPromptAssembler assembler = new AnalysisPromptAssembler();
+    private final JumpabilityScorer scorer = new JumpabilityScorer();
+
+    private final Dropzone dropzone = Dropzone.builder()
+            .id(7L).name("Skydive Warsaw").latitude(new BigDecimal("52.2297")).longitude(new BigDecimal("21.0122"))
+            .build();
+
+    @Test
+    void shouldMergeEqualHoursAndKeepOnlyOperatingHours() {
+        // Act
+        AnalysisPrompt prompt = assemble(series(DATE, 14.0), "Can we jump?");
+
+        // Assert
+        assertThat(prompt.text())
+                .contains("Dropzone: Skydive Warsaw (52.23,21.01)")
+                .contains("2025-06-01 go ")
+                .contains("2025-06-01 07-21 10/14 20 20 0.0\n")
+                .doesNotContain(" 06-")
+                .endsWith("Question: can we jump?\n");
+    }
+
+    @Test
+    void shouldGiveSameKeyForSameRoundedDataAndNormalizedQuestion() {
+        // Act
+        AnalysisPrompt prompt = assemble(series(DATE, 14.0), "Can we  jump?");
+        AnalysisPrompt equivalent = assemble(series(DATE, 14.2), " can we jump? ");
+
+        // Assert
+        assertThat(equivalent.cacheKey()).isEqualTo(prompt.cacheKey()).hasSize(64);
+        assertThat(assemble(series(DATE, 19.0), "Can we jump?").cacheKey()).isNotEqualTo(prompt.cacheKey());
+        assertThat(assemble(series(DATE, 14.0), "Is it windy?").cacheKey()).isNotEqualTo(prompt.cacheKey());
+    }
+
+    private AnalysisPrompt assemble(HourlySeries series, String question) {
+        return assembler.assemble(dropzone, series, scorer.assess(series, JumpRules.STANDARD), JumpRules.STANDARD,
+                question, "test-model");
+    }
+}
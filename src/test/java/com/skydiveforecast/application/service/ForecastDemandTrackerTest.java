@@ -0,0 +1,54 @@
+package com.skydiveforecast.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForecastDemandTrackerTest {
+
+    private final ForecastDemandTracker tracker = new ForecastDemandTracker();
+
+    @Test
+    void shouldIgnoreInvalidCoordinates() {
+        // Act
+        tracker.record(Double.NaN, 21.0);
+        tracker.record(52.2, Double.NEGATIVE_INFINITY);
+        tracker.record(95.0, 21.0);
+        tracker.record(52.2, -181.0);
+
+        // Assert
+        assertThat(tracker.buckets()).isZero();
+    }
+
+    @Test
+    void shouldStopAddingAreasAtCapButKeepCountingKnownOnes() {
+        // Arrange
+        for (int i = 0; i < ForecastDemandTracker.MAX_BUCKETS; i++) {
+            tracker.record(-89.0 + (i / 1000) * 0.1, -179.0 + (i % 1000) * 0.1);
+        }
+
+        // Act
+        tracker.record(60.0, 60.0);
+        tracker.record(-89.0, -179.0);
+
+        // Assert
+        assertThat(tracker.buckets()).isEqualTo(ForecastDemandTracker.MAX_BUCKETS);
+        assertThat(tracker.demand(60.0, 60.0)).isZero();
+        assertThat(tracker.demand(-89.0, -179.0)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictAreasWhoseDemandDecaysToZero() {
+        // Arrange
+        tracker.record(52.2, 21.0);
+        tracker.record(54.3, 18.6);
+        tracker.record(54.3, 18.6);
+
+        // Act
+        tracker.decay();
+
+        // Assert
+        assertThat(tracker.buckets()).isEqualTo(1);
+        assertThat(tracker.demand(54.3, 18.6)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,58 @@
+package com.skydiveforecast.application.service;
+
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.GeoPoint;
+import com.skydiveforecast.domain.model.WeatherPoint;
+import com.skydiveforecast.domain.port.out.WeatherForecastPort;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ForecastServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 6, 1);
+
+    private final WeatherForecastPort weatherForecastPort = mock(WeatherForecastPort.class);
+    private final ForecastService forecastService = new ForecastService(weatherForecastPort);
+
+    @Test
+    void shouldReturnCellForecastAtRequestedCoordinates() {
+        // Arrange
+        Forecast cell = cellForecast();
+        when(weatherForecastPort.getHourlyForecast(52.2297, 21.0122, DATE)).thenReturn(cell);
+
+        // Act
+        Forecast forecast = forecastService.getForecast(52.2297, 21.0122, DATE);
+
+        // Assert
+        assertThat(forecast.latitude()).isEqualTo(52.2297);
+        assertThat(forecast.longitude()).isEqualTo(21.0122);
+        assertThat(forecast.series()).isSameAs(cell.series());
+    }
+
+    @Test
+    void shouldRelabelEachBatchForecastWithItsOwnLocation() {
+        // Arrange
+        Forecast cell = cellForecast();
+        List<GeoPoint> locations = List.of(new GeoPoint(52.2297, 21.0122), new GeoPoint(52.2298, 21.0123));
+        when(weatherForecastPort.getHourlyForecasts(locations, DATE)).thenReturn(List.of(cell, cell));
+
+        // Act
+        List<Forecast> forecasts = forecastService.getForecasts(locations, DATE);
+
+        // Assert
+        assertThat(forecasts).extracting(Forecast::latitude).containsExactly(52.2297, 52.2298);
+        assertThat(forecasts).extracting(Forecast::longitude).containsExactly(21.0122, 21.0123);
+    }
+
+    private static Forecast cellForecast() {
+        return new Forecast(52.22, 21.02, List.of(new WeatherPoint(
+                LocalDateTime.of(2025, 6, 1, 12, 0), 18.0, 10.0, 15.0, 200, 20, 0.0, 24140, 1015.0)));
+    }
+}
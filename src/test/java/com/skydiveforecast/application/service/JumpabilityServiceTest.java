@@ -0,0 +1,85 @@
+package com.skydiveforecast.application.service;
+
+import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.model.DropzoneJumpability;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.JumpabilityChangedEvent;
+import com.skydiveforecast.domain.service.JumpabilityScorer;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.skydiveforecast.TestFixtures.forecast;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JumpabilityServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 6, 1);
+
+    private final ForecastService forecastService = mock(ForecastService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final JumpabilityService jumpabilityService =
+            new JumpabilityService(forecastService, new JumpabilityScorer(), eventPublisher);
+
+    private final Dropzone dropzone = Dropzone.builder()
+            .id(7L).name("Skydive Warsaw").latitude(new BigDecimal("52.2297")).longitude(new BigDecimal("21.0122"))
+            .build();
+
+    @Test
+    void shouldNotPublishOnFirstAssessmentOrUnchangedStatus() {
+        // Arrange
+        when(forecastService.getForecasts(anyList(), any(), any()))
+                .thenReturn(List.of(forecast(DATE, 14.0)))
+                .thenReturn(List.of(forecast(DATE, 16.0)));
+
+        // Act
+        List<DropzoneJumpability> first = jumpabilityService.refresh(List.of(dropzone), DATE, DATE);
+        jumpabilityService.refresh(List.of(dropzone), DATE, DATE);
+
+        // Assert
+        assertThat(first).hasSize(1);
+        assertThat(first.get(0).jumpability().days().get(0).go()).isTrue();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void shouldPublishWhenGoStatusFlips() {
+        // Arrange
+        when(forecastService.getForecasts(anyList(), any(), any()))
+                .thenReturn(List.of(forecast(DATE, 14.0)))
+                .thenReturn(List.of(forecast(DATE, 60.0)));
+        jumpabilityService.refresh(List.of(dropzone), DATE, DATE);
+
+        // Act
+        jumpabilityService.refresh(List.of(dropzone), DATE, DATE);
+
+        // Assert
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertThat(event.getValue()).isEqualTo(new JumpabilityChangedEvent(7L, "Skydive Warsaw", DATE, false, 0));
+    }
+
+    @Test
+    void shouldKeepLastAssessmentWhenForecastIsEmpty() {
+        // Arrange
+        jumpabilityService.update(dropzone, forecast(DATE, 14.0));
+
+        // Act
+        jumpabilityService.update(dropzone, Forecast.empty(52.2297, 21.0122));
+
+        // Assert
+        assertThat(jumpabilityService.latest(7L)).hasValueSatisfying(j -> assertThat(j.windows()).isNotEmpty());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
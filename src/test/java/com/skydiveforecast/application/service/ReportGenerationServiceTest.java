@@ -0,0 +1,118 @@
+package com.skydiveforecast.application.service;
+
+import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.model.ReportRequest;
+import com.skydiveforecast.domain.model.ReportStatus;
+import com.skydiveforecast.domain.model.WeatherReport;
+import com.skydiveforecast.domain.service.JumpabilityScorer;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static com.skydiveforecast.TestFixtures.forecast;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReportGenerationServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 6, 1);
+
+    private final DropzoneService dropzoneService = mock(DropzoneService.class);
+    private final ForecastService forecastService = mock(ForecastService.class);
+    private final ReportGenerationService reportGenerationService =
+            new ReportGenerationService(dropzoneService, forecastService, new JumpabilityScorer(),
+                    mock(ReportNarrativeService.class));
+
+    private final Dropzone warsaw = Dropzone.builder()
+            .id(7L).name("Skydive Warsaw").latitude(new BigDecimal("52.2297")).longitude(new BigDecimal("21.0122"))
+            .build();
+    private final Dropzone gdansk = Dropzone.builder()
+            .id(9L).name("Skydive Gdansk").latitude(new BigDecimal("54.3520")).longitude(new BigDecimal("18.6466"))
+            .build();
+
+    @Test
+    void shouldFetchEachDropzoneOnceForRequestsSharingDateRange() {
+        // Arrange
+        when(dropzoneService.resolveAirportCodes(any()))
+                .thenReturn(Map.of("7", warsaw, "skydive gdansk", gdansk, "WAW", warsaw));
+        when(forecastService.getForecasts(anyList(), eq(DATE), eq(DATE)))
+                .thenReturn(List.of(forecast(DATE, 14.0), forecast(DATE, 60.0)));
+
+        // Act
+        List<WeatherReport> reports = reportGenerationService.generate(List.of(
+                new ReportRequest("r1", "u1", DATE, DATE, List.of("7", "skydive gdansk")),
+                new ReportRequest("r2", "u2", DATE, DATE, List.of("WAW", "unknown"))));
+
+        // Assert
+        verify(forecastService, times(1)).getForecasts(anyList(), eq(DATE), eq(DATE));
+        assertThat(reports).extracting(WeatherReport::requestId).containsExactly("r1", "r2");
+        assertThat(reports.get(0).airports()).hasSize(2);
+        assertThat(reports.get(0).airports().get(0).days().get(0).go()).isTrue();
+        assertThat(reports.get(0).airports().get(1).days().get(0).go()).isFalse();
+        assertThat(reports.get(1).airports()).singleElement()
+                .satisfies(airport -> assertThat(airport.dropzoneId()).isEqualTo(7L));
+        assertThat(reports.get(1).unknownAirports()).containsExactly("unknown");
+    }
+
+    @Test
+    void shouldFetchOncePerDistinctDateRange() {
+        // Arrange
+        LocalDate nextDay = DATE.plusDays(1);
+        when(dropzoneService.resolveAirportCodes(any())).thenReturn(Map.of("7", warsaw));
+        when(forecastService.getForecasts(anyList(), any(), any())).thenReturn(List.of(forecast(DATE, 14.0)));
+
+        // Act
+        reportGenerationService.generate(List.of(
+                new ReportRequest("r1", "u1", DATE, DATE, List.of("7")),
+                new ReportRequest("r2", "u1", DATE, nextDay, List.of("7"))));
+
+        // Assert
+        verify(forecastService, times(1)).getForecasts(anyList(), eq(DATE), eq(DATE));
+        verify(forecastService, times(1)).getForecasts(anyList(), eq(DATE), eq(nextDay));
+    }
+
+    @Test
+    void shouldFailInvalidRequestWithoutAffectingOthers() {
+        // Arrange
+        when(dropzoneService.resolveAirportCodes(any())).thenReturn(Map.of("7", warsaw));
+        when(forecastService.getForecasts(anyList(), any(), any())).thenReturn(List.of(forecast(DATE, 14.0)));
+
+        // Act
+        List<WeatherReport> reports = reportGenerationService.generate(List.of(
+                new ReportRequest("bad", "u1", DATE, DATE.minusDays(1), List.of("7")),
+                new ReportRequest("good", "u1", DATE, DATE, List.of("7"))));
+
+        // Assert
+        assertThat(reports.get(0).status()).isEqualTo(ReportStatus.FAILED);
+        assertThat(reports.get(0).error()).contains("before startDate");
+        assertThat(reports.get(1).status()).isEqualTo(ReportStatus.COMPLETED);
+        assertThat(reports.get(1).airports()).hasSize(1);
+    }
+
+    @Test
+    void shouldFailReportsWhenDropzoneCatalogIsNotLoaded() {
+        // Arrange
+        when(dropzoneService.resolveAirportCodes(any())).thenThrow(new DropzoneCatalogUnavailableException());
+
+        // Act
+        List<WeatherReport> reports = reportGenerationService.generate(List.of(
+                new ReportRequest("r1", "u1", DATE, DATE, List.of("7"))));
+
+        // Assert
+        assertThat(reports).singleElement().satisfies(report -> {
+            assertThat(report.status()).isEqualTo(ReportStatus.FAILED);
+            assertThat(report.error()).isEqualTo("Dropzone catalog is not loaded");
+        });
+        verify(forecastService, never()).getForecasts(anyList(), any(), any());
+    }
+}
@@ -0,0 +1,107 @@
+package com.skydiveforecast.application.service;
+
+import com.skydiveforecast.application.service.ReportNarrativeService.AirportJumpability;
+import com.skydiveforecast.application.service.ReportNarrativeService.AirportNarratives;
+import com.skydiveforecast.application.service.ReportNarrativeService.DayText;
+import com.skydiveforecast.application.service.ReportNarrativeService.NarrativeBatch;
+import com.skydiveforecast.domain.model.DayNarrative;
+import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.model.JumpRules;
+import com.skydiveforecast.domain.service.JumpabilityScorer;
+import com.skydiveforecast.infrastructure.ai.LlmCallGuard;
+import com.skydiveforecast.infrastructure.config.CacheConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static com.skydiveforecast.TestFixtures.series;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReportNarrativeServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 6, 1);
+
+    private final ChatClient chatClient = mock(ChatClient.class, Answers.RETURNS_DEEP_STUBS);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReportNarrativeService narrativeService = new ReportNarrativeService(chatClient,
+            new LlmCallGuard(2, 10, 5, Duration.ofSeconds(5), CircuitBreakerRegistry.ofDefaults(),
+                    TimeLimiterRegistry.ofDefaults(), meterRegistry),
+            new ConcurrentMapCacheManager(CacheConfig.AI_NARRATIVE_CACHE), meterRegistry, "test-model");
+
+    private final List<AirportJumpability> airports = List.of(
+            airport(7L, "Skydive Warsaw", 14.0),
+            airport(9L, "Skydive Gdansk", 60.0),
+            airport(11L, "Skydive Torun", 20.0));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(narrativeService, "enabled", true);
+        ReflectionTestUtils.setField(narrativeService, "maxPromptTokens", 3000);
+        ReflectionTestUtils.setField(narrativeService, "concurrency", 2);
+        ReflectionTestUtils.setField(narrativeService, "timeout", Duration.ofSeconds(10));
+    }
+
+    @Test
+    void shouldNarrateAirportsInOneCallAndServeRepeatsFromCache() {
+        // Arrange
+        when(chatClient.prompt().system(anyString()).user(anyString()).call().entity(NarrativeBatch.class))
+                .thenReturn(new NarrativeBatch(List.of(
+                        new AirportNarratives(0, List.of(new DayText(DATE.toString(), " Jumpable all day. "))),
+                        new AirportNarratives(1, List.of(new DayText(DATE.toString(), "Too gusty."))),
+                        new AirportNarratives(5, List.of(new DayText(DATE.toString(), "Not asked for."))))));
+
+        // Act
+        Map<AirportJumpability, List<DayNarrative>> first = narrativeService.narrate(airports);
+        Map<AirportJumpability, List<DayNarrative>> second = narrativeService.narrate(airports.subList(0, 2));
+
+        // Assert
+        verify(chatClient.prompt().system(anyString()).user(anyString()).call(), times(1))
+                .entity(NarrativeBatch.class);
+        assertThat(first.get(airports.get(0))).containsExactly(new DayNarrative(DATE, "Jumpable all day."));
+        assertThat(first.get(airports.get(1))).containsExactly(new DayNarrative(DATE, "Too gusty."));
+        assertThat(first.get(airports.get(2))).isEmpty();
+        assertThat(second.get(airports.get(1))).containsExactly(new DayNarrative(DATE, "Too gusty."));
+        assertThat(meterRegistry.get("ai.narratives").tag("result", "cached").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSplitAirportsAcrossCallsToStayWithinTokenBudget() {
+        // Arrange
+        ReflectionTestUtils.setField(narrativeService, "maxPromptTokens", 1);
+        when(chatClient.prompt().system(anyString()).user(anyString()).call().entity(NarrativeBatch.class))
+                .thenReturn(new NarrativeBatch(List.of()));
+
+        // Act
+        Map<AirportJumpability, List<DayNarrative>> narratives = narrativeService.narrate(airports);
+
+        // Assert
+        verify(chatClient.prompt().system(anyString()).user(anyString()).call(), times(3))
+                .entity(NarrativeBatch.class);
+        assertThat(narratives).hasSize(3).allSatisfy((airport, days) -> assertThat(days).isEmpty());
+    }
+
+    private static AirportJumpability airport(long id, String name, double gusts) {
+        Dropzone dropzone = Dropzone.builder()
+                .id(id).name(name).latitude(new BigDecimal("52.2297")).longitude(new BigDecimal("21.0122"))
+                .build();
+        return new AirportJumpability(dropzone,
+                new JumpabilityScorer().assess(series(DATE, gusts), JumpRules.forDropzone(dropzone)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.skydiveforecast.application.service;
+
+import com.skydiveforecast.domain.model.ReportRecord;
+import com.skydiveforecast.domain.model.ReportRequest;
+import com.skydiveforecast.domain.model.ReportStatus;
+import com.skydiveforecast.domain.model.WeatherReport;
+import com.skydiveforecast.domain.port.out.ReportRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReportServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 6, 1);
+    private static final Duration WAIT = Duration.ofSeconds(10);
+
+    private final ReportRepository reportRepository = mock(ReportRepository.class);
+    private final ReportService reportService = new ReportService(reportRepository);
+
+    @Test
+    void shouldWakeWaiterWhenReportIsSavedHere() {
+        // Arrange
+        WeatherReport report = WeatherReport.failed(new ReportRequest("r1", "u1", DATE, DATE, List.of()), "x");
+        ReportRecord saved = withVersion(ReportRecord.of(report), 2);
+        when(reportRepository.findAllById(List.of("r1"))).thenReturn(List.of(saved));
+        CompletableFuture<ReportRecord> change = reportService.awaitChange("r1", 1, WAIT);
+
+        // Act
+        reportService.saveResults(List.of(report));
+
+        // Assert
+        verify(reportRepository).saveAll(List.of(ReportRecord.of(report)));
+        assertThat(change).isCompletedWithValue(saved);
+        assertThat(reportService.waiting()).isZero();
+    }
+
+    @Test
+    void shouldWakeWaiterFromSweepOnlyOnceVersionMoves() {
+        // Arrange
+        ReportRecord pending = ReportRecord.pending("r1", DATE, DATE, List.of("7"), Instant.now());
+        when(reportRepository.findAllById(anyCollection()))
+                .thenReturn(List.of(pending))
+                .thenReturn(List.of(withVersion(pending, 2)));
+        CompletableFuture<ReportRecord> change = reportService.awaitChange("r1", 1, WAIT);
+
+        // Act
+        reportService.sweep();
+        boolean doneAfterFirstSweep = change.isDone();
+        reportService.sweep();
+
+        // Assert
+        assertThat(doneAfterFirstSweep).isFalse();
+        assertThat(change.join().version()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCompleteWithNullAfterTimeoutAndSkipSweepWhenNobodyWaits() {
+        // Act
+        ReportRecord change = reportService.awaitChange("r1", 1, Duration.ofMillis(20)).join();
+        reportService.sweep();
+
+        // Assert
+        assertThat(change).isNull();
+        assertThat(reportService.waiting()).isZero();
+        verify(reportRepository, never()).findAllById(any());
+    }
+
+    private static ReportRecord withVersion(ReportRecord record, long version) {
+        return new ReportRecord(record.id(), ReportStatus.COMPLETED, record.startDate(),
+                record.endDate(), record.airportCodes(), record.result(), record.error(), version,
+                record.createdAt(), Instant.now());
+    }
+}
@@ -0,0 +1,52 @@
+package com.skydiveforecast.benchmark;
+
+import com.skydiveforecast.infrastructure.security.AuthServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthServiceBenchmark {
+
+    private AuthServiceImpl authService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        authService = new AuthServiceImpl(BenchmarkTokens.SECRET, 10_000, Duration.ofMinutes(10),
+                new SimpleMeterRegistry());
+        token = BenchmarkTokens.token("jumper@example.com");
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return authService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return authService.isTokenValid(token);
+    }
+
+    @Benchmark
+    public Set<String> extractPermissions() {
+        return authService.extractPermissions(token);
+    }
+}
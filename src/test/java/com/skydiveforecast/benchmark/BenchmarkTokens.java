@@ -0,0 +1,29 @@
+package com.skydiveforecast.benchmark;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+final class BenchmarkTokens {
+
+    static final String SECRET = "benchmark-secret-that-is-at-least-32-characters-long";
+
+    private BenchmarkTokens() {
+    }
+
+    static String token(String subject) {
+        return Jwts.builder()
+                .subject(subject)
+                .claim("userId", 42L)
+                .claim("roles", List.of("USER", "JUMPER"))
+                .claim("permissions", List.of("FORECAST_VIEW", "DROPZONE_VIEW", "ANALYSIS_CREATE"))
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis()))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
@@ -0,0 +1,51 @@
+package com.skydiveforecast.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.infrastructure.adapter.out.OpenMeteoForecastDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.skydiveforecast.infrastructure.adapter.out.JsonFileLoader.loadMockwebserverOpenMeteoJson;
+
+// Open-Meteo response to Forecast, on the recorded fixtures used by OpenMeteoWeatherAdapterTest
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ForecastMappingBenchmark {
+
+    @Param({"single-day-response.json", "two-locations-response.json", "three-day-response.json"})
+    private String fixture;
+
+    private byte[] body;
+    private OpenMeteoForecastDecoder decoder;
+
+    @Setup
+    public void setUp() {
+        body = loadMockwebserverOpenMeteoJson(fixture).getBytes(StandardCharsets.UTF_8);
+        decoder = new OpenMeteoForecastDecoder(new JsonFactory(), Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public List<Forecast> mapResponse() throws IOException {
+        return decoder.read(new ByteArrayInputStream(body));
+    }
+}
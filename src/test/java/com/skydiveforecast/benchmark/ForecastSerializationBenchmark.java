@@ -0,0 +1,59 @@
+package com.skydiveforecast.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.infrastructure.adapter.out.OpenMeteoForecastDecoder;
+import com.skydiveforecast.infrastructure.config.JacksonConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static com.skydiveforecast.infrastructure.adapter.out.JsonFileLoader.loadMockwebserverOpenMeteoJson;
+
+// Forecast to/from JSON with the application ObjectMapper, as used for API responses and the Redis cache
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ForecastSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Forecast forecast;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new JacksonConfig().objectMapper();
+        byte[] response = loadMockwebserverOpenMeteoJson("three-day-response.json").getBytes(StandardCharsets.UTF_8);
+        forecast = new OpenMeteoForecastDecoder(new JsonFactory(), Integer.MAX_VALUE)
+                .read(new ByteArrayInputStream(response))
+                .get(0);
+        json = objectMapper.writeValueAsBytes(forecast);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(forecast);
+    }
+
+    @Benchmark
+    public Forecast deserialize() throws IOException {
+        return objectMapper.readValue(json, Forecast.class);
+    }
+}
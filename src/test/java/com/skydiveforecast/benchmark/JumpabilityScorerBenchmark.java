@@ -0,0 +1,73 @@
+package com.skydiveforecast.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.HourlySeries;
+import com.skydiveforecast.domain.model.JumpRules;
+import com.skydiveforecast.domain.model.Jumpability;
+import com.skydiveforecast.domain.service.JumpabilityScorer;
+import com.skydiveforecast.infrastructure.adapter.out.OpenMeteoForecastDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Scoring every dropzone over a 16-day model run, as done on each model update
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JumpabilityScorerBenchmark {
+
+    @Param({"50", "500"})
+    private int dropzones;
+
+    private HourlySeries[] series;
+    private int[] scores;
+    private JumpabilityScorer scorer;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] body = OpenMeteoDecodeBenchmark.OpenMeteoPayloads.hourly(50, 16).getBytes(StandardCharsets.UTF_8);
+        List<Forecast> forecasts = new OpenMeteoForecastDecoder(new JsonFactory(), Integer.MAX_VALUE)
+                .read(new ByteArrayInputStream(body));
+        series = new HourlySeries[dropzones];
+        for (int i = 0; i < dropzones; i++) {
+            series[i] = forecasts.get(i % forecasts.size()).series();
+        }
+        scores = new int[series[0].size()];
+        scorer = new JumpabilityScorer();
+    }
+
+    @Benchmark
+    public void scoreHours(Blackhole blackhole) {
+        for (HourlySeries hours : series) {
+            scorer.scoreHours(hours, JumpRules.STANDARD, scores, 0, hours.size());
+            blackhole.consume(scores);
+        }
+    }
+
+    @Benchmark
+    public void assess(Blackhole blackhole) {
+        for (HourlySeries hours : series) {
+            Jumpability jumpability = scorer.assess(hours, JumpRules.STANDARD);
+            blackhole.consume(jumpability);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.skydiveforecast.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.WeatherPoint;
+import com.skydiveforecast.infrastructure.adapter.out.OpenMeteoForecastDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+// Streaming decoder vs. the data-binding path it replaced (boxed DTO lists copied into WeatherPoints).
+// Run with -prof gc to compare allocation per operation.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenMeteoDecodeBenchmark {
+
+    @Param({"1", "16"})
+    private int days;
+
+    @Param({"1", "50"})
+    private int locations;
+
+    private byte[] body;
+    private OpenMeteoForecastDecoder decoder;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        body = OpenMeteoPayloads.hourly(locations, days).getBytes(StandardCharsets.UTF_8);
+        decoder = new OpenMeteoForecastDecoder(new JsonFactory(), Integer.MAX_VALUE);
+        objectMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public List<Forecast> streamingDecoder() throws IOException {
+        return decoder.read(new ByteArrayInputStream(body));
+    }
+
+    @Benchmark
+    public List<Forecast> boxedDtoMapping() throws IOException {
+        LegacyResponse[] responses = locations == 1
+                ? new LegacyResponse[]{objectMapper.readValue(body, LegacyResponse.class)}
+                : objectMapper.readValue(body, LegacyResponse[].class);
+
+        List<Forecast> forecasts = new ArrayList<>(responses.length);
+        for (LegacyResponse response : responses) {
+            List<WeatherPoint> points = new ArrayList<>();
+            List<String> times = response.hourly.time;
+            for (int i = 0; i < times.size(); i++) {
+                points.add(new WeatherPoint(
+                        LocalDateTime.parse(times.get(i)),
+                        orDefault(response.hourly.temperature_2m.get(i), Double.NaN),
+                        orDefault(response.hourly.wind_speed_10m.get(i), Double.NaN),
+                        orDefault(response.hourly.wind_gusts_10m.get(i), Double.NaN),
+                        orDefault(response.hourly.wind_direction_10m.get(i), 0),
+                        orDefault(response.hourly.cloud_cover.get(i), 0),
+                        orDefault(response.hourly.precipitation.get(i), 0.0),
+                        response.hourly.visibility.get(i),
+                        response.hourly.pressure_msl.get(i)));
+            }
+            forecasts.add(new Forecast(response.latitude, response.longitude, points));
+        }
+        return forecasts;
+    }
+
+    private static double orDefault(Double value, double defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+
+    private static int orDefault(Integer value, int defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class LegacyResponse {
+        public double latitude;
+        public double longitude;
+        public Hourly hourly;
+
+        @JsonIgnoreProperties(ignoreUnknown = true)
+        public static class Hourly {
+            public List<String> time;
+            public List<Double> temperature_2m;
+            public List<Double> wind_speed_10m;
+            public List<Double> wind_gusts_10m;
+            public List<Integer> wind_direction_10m;
+            public List<Integer> cloud_cover;
+            public List<Double> precipitation;
+            public List<Integer> visibility;
+            public List<Double> pressure_msl;
+        }
+    }
+
+    static final class OpenMeteoPayloads {
+
+        private static final LocalDate START = LocalDate.of(2025, 6, 1);
+
+        private OpenMeteoPayloads() {
+        }
+
+        static String hourly(int locations, int days) {
+            StringBuilder json = new StringBuilder();
+            if (locations > 1) {
+                json.append('[');
+            }
+            for (int location = 0; location < locations; location++) {
+                if (location > 0) {
+                    json.append(',');
+                }
+                appendLocation(json, 50.0 + location * 0.1, 19.0 + location * 0.1, days);
+            }
+            if (locations > 1) {
+                json.append(']');
+            }
+            return json.toString();
+        }
+
+        private static void appendLocation(StringBuilder json, double latitude, double longitude, int days) {
+            int hours = days * 24;
+            json.append(String.format(Locale.ROOT,
+                    "{\"latitude\":%.2f,\"longitude\":%.2f,\"generationtime_ms\":0.1,\"utc_offset_seconds\":7200,"
+                            + "\"timezone\":\"Europe/Warsaw\",\"elevation\":94.0,\"hourly\":{",
+                    latitude, longitude));
+            json.append("\"time\":[");
+            for (int i = 0; i < hours; i++) {
+                LocalDateTime time = START.atStartOfDay().plusHours(i);
+                json.append(i == 0 ? "" : ",").append('"').append(time.toString(), 0, 16).append('"');
+            }
+            json.append(']');
+            appendColumn(json, "temperature_2m", hours, i -> String.format(Locale.ROOT, "%.1f", 12 + (i % 24) * 0.4));
+            appendColumn(json, "wind_speed_10m", hours, i -> String.format(Locale.ROOT, "%.1f", 5 + (i % 17) * 0.9));
+            appendColumn(json, "wind_gusts_10m", hours, i -> String.format(Locale.ROOT, "%.1f", 9 + (i % 13) * 1.3));
+            appendColumn(json, "wind_direction_10m", hours, i -> String.valueOf((i * 37) % 360));
+            appendColumn(json, "cloud_cover", hours, i -> String.valueOf((i * 11) % 101));
+            appendColumn(json, "precipitation", hours, i -> i % 9 == 0 ? "0.4" : "0.0");
+            appendColumn(json, "visibility", hours, i -> i % 50 == 3 ? "null" : String.valueOf(24140 - (i % 7) * 1000));
+            appendColumn(json, "pressure_msl", hours, i -> String.format(Locale.ROOT, "%.1f", 1008 + (i % 11) * 0.7));
+            json.append("}}");
+        }
+
+        private static void appendColumn(StringBuilder json, String name, int hours,
+                                         IntFunction<String> value) {
+            json.append(",\"").append(name).append("\":[");
+            for (int i = 0; i < hours; i++) {
+                json.append(i == 0 ? "" : ",").append(value.apply(i));
+            }
+            json.append(']');
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.skydiveforecast.benchmark;
+
+import com.skydiveforecast.domain.model.AirportReport;
+import com.skydiveforecast.domain.model.DailyJumpability;
+import com.skydiveforecast.domain.model.JumpWindow;
+import com.skydiveforecast.domain.model.ReportStatus;
+import com.skydiveforecast.domain.model.WeatherReport;
+import com.skydiveforecast.infrastructure.adapter.in.web.dto.WeatherReportRequestDto;
+import com.skydiveforecast.infrastructure.kafka.serialization.CompactBinaryDeserializer;
+import com.skydiveforecast.infrastructure.kafka.serialization.CompactBinarySerializer;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Kafka value serialization of report messages: the default JsonSerializer (with type headers) against
+// CompactBinarySerializer. The report is 20 airports over 7 days; setUp prints the encoded sizes.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportMessageSerializationBenchmark {
+
+    private static final String TOPIC = "weather-report-results";
+    private static final LocalDate START = LocalDate.of(2025, 6, 1);
+
+    private JsonSerializer<Object> jsonSerializer;
+    private JsonDeserializer<Object> jsonDeserializer;
+    private CompactBinarySerializer compactSerializer;
+    private CompactBinaryDeserializer compactDeserializer;
+
+    private WeatherReportRequestDto request;
+    private WeatherReport report;
+    private RecordHeaders jsonHeaders;
+    private byte[] jsonReport;
+    private byte[] compactReport;
+
+    @Setup
+    public void setUp() {
+        jsonSerializer = new JsonSerializer<>();
+        jsonDeserializer = new JsonDeserializer<>();
+        // keeps the type headers, which are otherwise removed on the first read
+        jsonDeserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*",
+                JsonDeserializer.REMOVE_TYPE_INFO_HEADERS, false), false);
+        compactSerializer = new CompactBinarySerializer();
+        compactDeserializer = new CompactBinaryDeserializer();
+        compactDeserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+
+        request = new WeatherReportRequestDto();
+        request.setRequestId("3f1c0e5d8a9b4c7e2f6a1d0b9c8e7f6a5b4c3d2e1f0a9b8c7d6e5f4a3b2c1d0e");
+        request.setStartDate(START);
+        request.setEndDate(START.plusDays(6));
+        request.setAirportCodes(List.of("7", "9", "12", "Skydive Warsaw", "Skydive Gdansk"));
+        request.setUserId("42");
+
+        List<AirportReport> airports = new ArrayList<>();
+        for (int a = 0; a < 20; a++) {
+            List<DailyJumpability> days = new ArrayList<>();
+            List<JumpWindow> windows = new ArrayList<>();
+            for (int d = 0; d < 7; d++) {
+                LocalDate date = START.plusDays(d);
+                days.add(new DailyJumpability(date, 40 + (a * 7 + d * 13) % 60, (a + d) % 12, d % 3 != 0));
+                windows.add(new JumpWindow(date.atTime(9, 0), date.atTime(9 + 2 + (a + d) % 8, 0), 55 + d));
+            }
+            airports.add(new AirportReport(String.valueOf(a), (long) a, "Dropzone " + a, days, windows,
+                    List.of()));
+        }
+        report = new WeatherReport(request.getRequestId(), "42", ReportStatus.COMPLETED, START, START.plusDays(6),
+                Instant.parse("2025-06-01T06:15:30Z"), airports, List.of("unknown"), null);
+
+        jsonHeaders = new RecordHeaders();
+        jsonReport = jsonSerializer.serialize(TOPIC, jsonHeaders, report);
+        compactReport = compactSerializer.serialize(TOPIC, new RecordHeaders(), report);
+        System.out.printf("report bytes: json=%d compact=%d; request bytes: json=%d compact=%d%n",
+                jsonReport.length, compactReport.length,
+                jsonSerializer.serialize(TOPIC, new RecordHeaders(), request).length,
+                compactSerializer.serialize(TOPIC, new RecordHeaders(), request).length);
+    }
+
+    @Benchmark
+    public byte[] jsonSerializeRequest() {
+        return jsonSerializer.serialize(TOPIC, new RecordHeaders(), request);
+    }
+
+    @Benchmark
+    public byte[] compactSerializeRequest() {
+        return compactSerializer.serialize(TOPIC, new RecordHeaders(), request);
+    }
+
+    @Benchmark
+    public byte[] jsonSerializeReport() {
+        return jsonSerializer.serialize(TOPIC, new RecordHeaders(), report);
+    }
+
+    @Benchmark
+    public byte[] compactSerializeReport() {
+        return compactSerializer.serialize(TOPIC, new RecordHeaders(), report);
+    }
+
+    @Benchmark
+    public Object jsonDeserializeReport() {
+        return jsonDeserializer.deserialize(TOPIC, jsonHeaders, jsonReport);
+    }
+
+    @Benchmark
+    public Object compactDeserializeReport() {
+        return compactDeserializer.deserialize(TOPIC, new RecordHeaders(), compactReport);
+    }
+}
@@ -0,0 +1,86 @@
+package com.skydiveforecast.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static com.skydiveforecast.TestFixtures.dropzone;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DropzoneIndexTest {
+
+    @Test
+    void shouldReturnNearestDropzonesWithinRadiusNearestFirst() {
+        // Arrange
+        DropzoneIndex index = new DropzoneIndex(List.of(
+                dropzone(1L, "52.1657", "20.9671"),
+                dropzone(2L, "50.0777", "19.7848"),
+                dropzone(3L, "54.3520", "18.6466"),
+                Dropzone.builder().id(4L).name("No position").build()));
+
+        // Act
+        List<NearbyDropzone> nearby = index.nearest(52.2297, 21.0122, 300, 10);
+
+        // Assert
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(nearby).extracting(n -> n.dropzone().getId()).containsExactly(1L, 2L, 3L);
+        assertThat(nearby.get(0).distanceKm()).isCloseTo(7.75, within(0.05));
+    }
+
+    @Test
+    void shouldFindNeighboursAcrossTheAntimeridian() {
+        // Arrange
+        DropzoneIndex index = new DropzoneIndex(List.of(
+                dropzone(1L, "-16.5", "179.9"),
+                dropzone(2L, "-16.5", "-170.0")));
+
+        // Act
+        List<NearbyDropzone> nearby = index.nearest(-16.5, -179.9, 50, 5);
+
+        // Assert
+        assertThat(nearby).extracting(n -> n.dropzone().getId()).containsExactly(1L);
+    }
+
+    @Test
+    void shouldMatchLinearScanOnRandomCatalog() {
+        // Arrange
+        Random random = new Random(7);
+        List<Dropzone> catalog = new ArrayList<>();
+        for (long id = 0; id < 2_000; id++) {
+            catalog.add(dropzone(id,
+                    String.valueOf(random.nextDouble() * 180 - 90),
+                    String.valueOf(random.nextDouble() * 360 - 180)));
+        }
+        DropzoneIndex index = new DropzoneIndex(catalog);
+
+        for (int q = 0; q < 100; q++) {
+            double lat = random.nextDouble() * 180 - 90;
+            double lon = random.nextDouble() * 360 - 180;
+
+            // Act
+            List<NearbyDropzone> nearby = index.nearest(lat, lon, 1_500, 7);
+
+            // Assert
+            List<Long> expected = catalog.stream()
+                    .filter(d -> haversineKm(lat, lon, d) <= 1_500)
+                    .sorted(Comparator.comparingDouble(d -> haversineKm(lat, lon, d)))
+                    .limit(7)
+                    .map(Dropzone::getId)
+                    .toList();
+            assertThat(nearby).extracting(n -> n.dropzone().getId()).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private static double haversineKm(double lat, double lon, Dropzone dropzone) {
+        double lat1 = Math.toRadians(lat);
+        double lat2 = Math.toRadians(dropzone.getLatitude().doubleValue());
+        double dLat = lat2 - lat1;
+        double dLon = Math.toRadians(dropzone.getLongitude().doubleValue() - lon);
+        double a = Math.pow(Math.sin(dLat / 2), 2) + Math.cos(lat1) * Math.cos(lat2) * Math.pow(Math.sin(dLon / 2), 2);
+        return 2 * 6371.0088 * Math.asin(Math.sqrt(a));
+    }
+}
@@ -0,0 +1,60 @@
+package com.skydiveforecast.domain.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForecastTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void shouldKeepJsonShapeAndMissingValuesAcrossRoundTrip() throws Exception {
+        // Arrange
+        Forecast forecast = new Forecast(52.22, 21.02, List.of(
+                point(LocalDateTime.of(2025, 6, 1, 0, 0), 24140, 1015.0),
+                point(LocalDateTime.of(2025, 6, 1, 1, 0), null, null)));
+
+        // Act
+        String json = objectMapper.writeValueAsString(forecast);
+        Forecast restored = objectMapper.readValue(json, Forecast.class);
+
+        // Assert
+        assertThat(json).contains("\"hours\":[{\"time\":\"2025-06-01T00:00:00\"").doesNotContain("series");
+        assertThat(restored).isEqualTo(forecast);
+        assertThat(restored.hours().get(1).visibilityM()).isNull();
+        assertThat(restored.hours().get(1).pressureHpa()).isNull();
+    }
+
+    @Test
+    void shouldSliceAndConcatenateSeries() {
+        // Arrange
+        HourlySeries series = HourlySeries.fromPoints(List.of(
+                point(LocalDateTime.of(2025, 6, 1, 22, 0), 1000, 1010.0),
+                point(LocalDateTime.of(2025, 6, 1, 23, 0), null, 1011.0),
+                point(LocalDateTime.of(2025, 6, 2, 0, 0), 3000, null)));
+
+        // Act
+        HourlySeries firstDay = series.slice(0, 2);
+        HourlySeries secondDay = series.slice(2, 3);
+        HourlySeries joined = HourlySeries.concat(List.of(firstDay, secondDay));
+
+        // Assert
+        assertThat(firstDay.localEpochDay(1)).isNotEqualTo(secondDay.localEpochDay(0));
+        assertThat(secondDay.hasVisibility(0)).isTrue();
+        assertThat(joined).isEqualTo(series);
+        assertThat(joined.asPoints()).containsExactlyElementsOf(series.asPoints());
+    }
+
+    private static WeatherPoint point(LocalDateTime time, Integer visibility, Double pressure) {
+        return new WeatherPoint(time, 12.5, 8.0, 15.0, 200, 40, 0.0, visibility, pressure);
+    }
+}
@@ -0,0 +1,34 @@
+package com.skydiveforecast.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportKeyTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 6, 1);
+    private static final LocalDate END = LocalDate.of(2025, 6, 3);
+
+    @Test
+    void shouldIgnoreOrderCaseWhitespaceAndDuplicates() {
+        // Act
+        String key = ReportKey.of(START, END, List.of("EPWA", "7", "Skydive Gdansk"));
+        String equivalent = ReportKey.of(START, END, List.of(" skydive gdansk", "epwa", "7", "EPWA"));
+
+        // Assert
+        assertThat(key).isEqualTo(equivalent).hasSize(64);
+    }
+
+    @Test
+    void shouldDifferForOtherDatesOrAirports() {
+        // Act
+        String key = ReportKey.of(START, END, List.of("7"));
+
+        // Assert
+        assertThat(key).isNotEqualTo(ReportKey.of(START, END.plusDays(1), List.of("7")));
+        assertThat(key).isNotEqualTo(ReportKey.of(START, END, List.of("7", "9")));
+    }
+}
@@ -0,0 +1,122 @@
+package com.skydiveforecast.domain.service;
+
+import com.skydiveforecast.application.service.AnalysisPromptAssembler;
+import com.skydiveforecast.application.service.ForecastService;
+import com.skydiveforecast.domain.model.AiAnalysis;
+import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.infrastructure.ai.LlmCallGuard;
+import com.skydiveforecast.infrastructure.config.CacheConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.skydiveforecast.TestFixtures.forecast;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AiServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 6, 1);
+
+    private final ChatClient chatClient = mock(ChatClient.class, Answers.RETURNS_DEEP_STUBS);
+    private final ForecastService forecastService = mock(ForecastService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AiService aiService = new AiService(chatClient, forecastService, new JumpabilityScorer(),
+            new AnalysisPromptAssembler(), new LlmCallGuard(2, 10, 2, Duration.ofSeconds(5),
+            CircuitBreakerRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), meterRegistry),
+            mock(AuthService.class), new ConcurrentMapCacheManager(CacheConfig.AI_ANALYSIS_CACHE), meterRegistry,
+            "test-model");
+
+    private final Dropzone dropzone = Dropzone.builder()
+            .id(7L).name("Skydive Warsaw").latitude(new BigDecimal("52.2297")).longitude(new BigDecimal("21.0122"))
+            .build();
+
+    @Test
+    void shouldAnswerRepeatedRequestFromCacheAndRecordTokens() {
+        // Arrange
+        when(forecastService.getForecast(52.2297, 21.0122, DATE, DATE)).thenReturn(forecast(DATE, 14.0));
+        ChatResponse response = new ChatResponse(List.of(new Generation(new AssistantMessage("Jump 09-15."))),
+                ChatResponseMetadata.builder().usage(new DefaultUsage(120, 30)).build());
+        when(chatClient.prompt().system(anyString()).user(anyString()).call().chatResponse()).thenReturn(response);
+
+        // Act
+        AiAnalysis first = aiService.analyze(dropzone, DATE, DATE, "Can we jump?");
+        AiAnalysis second = aiService.analyze(dropzone, DATE, DATE, "can we jump?");
+
+        // Assert
+        assertThat(second).isEqualTo(first);
+        assertThat(first.content()).isEqualTo("Jump 09-15.");
+        verify(chatClient.prompt().system(anyString()).user(anyString()).call(), times(1)).chatResponse();
+        assertThat(meterRegistry.get("ai.analysis.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.tokens").tag("type", "prompt").counter().count()).isEqualTo(120);
+        assertThat(meterRegistry.get("ai.tokens").tag("type", "completion").counter().count()).isEqualTo(30);
+        assertThat(meterRegistry.get("ai.call").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStreamChunksAndCacheFullTextOnCompletion() {
+        // Arrange
+        when(forecastService.getForecast(52.2297, 21.0122, DATE, DATE)).thenReturn(forecast(DATE, 14.0));
+        when(chatClient.prompt().system(anyString()).user(anyString()).stream().chatResponse()).thenReturn(Flux.just(
+                chunk("Jump ", null), chunk("09-15.", new DefaultUsage(120, 30))));
+
+        // Act
+        List<String> chunks = aiService.analyzeStream(dropzone, DATE, DATE, "Can we jump?").collectList().block();
+        AiAnalysis cached = aiService.analyze(dropzone, DATE, DATE, "Can we jump?");
+
+        // Assert
+        assertThat(chunks).containsExactly("Jump ", "09-15.");
+        assertThat(cached.content()).isEqualTo("Jump 09-15.");
+        assertThat(cached.completionTokens()).isEqualTo(30);
+        verify(chatClient.prompt().system(anyString()).user(anyString()).call(), never()).chatResponse();
+        assertThat(meterRegistry.get("ai.stream.first.token").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.stream").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheCancelledStream() {
+        // Arrange
+        when(forecastService.getForecast(52.2297, 21.0122, DATE, DATE)).thenReturn(forecast(DATE, 14.0));
+        // emits after subscribing, like a model stream, so the cancel reaches it before blockFirst returns
+        when(chatClient.prompt().system(anyString()).user(anyString()).stream().chatResponse()).thenReturn(
+                Flux.concat(Mono.just(chunk("Jump ", null)).delayElement(Duration.ofMillis(10)), Flux.never()));
+
+        // Act
+        String first = aiService.analyzeStream(dropzone, DATE, DATE, "Can we jump?").blockFirst();
+
+        // Assert
+        assertThat(first).isEqualTo("Jump ");
+        assertThat(meterRegistry.get("ai.stream").tag("outcome", "cancelled").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.analysis.cache").tag("result", "hit").counter().count()).isZero();
+        assertThat(aiService.analyzeStream(dropzone, DATE, DATE, "Can we jump?").blockFirst()).isEqualTo("Jump ");
+        assertThat(meterRegistry.get("ai.analysis.cache").tag("result", "hit").counter().count()).isZero();
+    }
+
+    private static ChatResponse chunk(String text, DefaultUsage usage) {
+        ChatResponseMetadata metadata = usage != null
+                ? ChatResponseMetadata.builder().usage(usage).build()
+                : ChatResponseMetadata.builder().build();
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))), metadata);
+    }
+}
@@ -0,0 +1,182 @@
+package com.skydiveforecast.domain.service;
+
+import com.skydiveforecast.domain.model.DailyJumpability;
+import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.model.HourlySeries;
+import com.skydiveforecast.domain.model.JumpRules;
+import com.skydiveforecast.domain.model.JumpWindow;
+import com.skydiveforecast.domain.model.Jumpability;
+import com.skydiveforecast.domain.model.WeatherPoint;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class JumpabilityScorerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 6, 1);
+
+    private final JumpabilityScorer scorer = new JumpabilityScorer();
+
+    @Test
+    void shouldScoreEachHourAgainstWorstFactor() {
+        // Arrange
+        HourlySeries series = HourlySeries.fromPoints(List.of(
+                point(0, 0.0, 0.0, 0, 0.0, 20000),
+                point(1, 20.0, 25.0, 10, 0.0, 20000),
+                point(2, 20.0, 50.0, 10, 0.0, 20000),
+                point(3, 10.0, 12.0, 90, 0.0, 20000),
+                point(4, 10.0, 12.0, 10, 1.0, 20000),
+                point(5, 10.0, 12.0, 10, 0.0, 3000),
+                point(6, Double.NaN, 12.0, 10, 0.0, 20000)));
+
+        // Act
+        Jumpability jumpability = scorer.assess(series, JumpRules.STANDARD);
+
+        // Assert
+        assertThat(jumpability.hourlyScores()).containsExactly(75, 45, 0, 0, 0, 0, 0);
+        assertThat(jumpability.isGo(1)).isTrue();
+        assertThat(jumpability.isGo(2)).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreMissingVisibility() {
+        // Arrange
+        HourlySeries series = HourlySeries.fromPoints(List.of(point(10, 8.0, 10.0, 0, 0.0, null)));
+
+        // Act
+        Jumpability jumpability = scorer.assess(series, JumpRules.STANDARD);
+
+        // Assert
+        assertThat(jumpability.hourlyScores()).containsExactly(78);
+    }
+
+    @Test
+    void shouldFindWindowsInsideOperatingHoursAndScoreDays() {
+        // Arrange: calm all day except a gusty front 13:00-15:00
+        List<WeatherPoint> points = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour++) {
+            boolean front = hour >= 13 && hour < 15;
+            points.add(point(hour, front ? 30.0 : 10.0, front ? 60.0 : 14.0, 20, 0.0, 20000));
+        }
+        HourlySeries series = HourlySeries.fromPoints(points);
+
+        // Act
+        Jumpability jumpability = scorer.assess(series, JumpRules.STANDARD);
+
+        // Assert
+        assertThat(jumpability.windows()).extracting(JumpWindow::start, JumpWindow::end).containsExactly(
+                tuple(DATE.atTime(7, 0), DATE.atTime(13, 0)),
+                tuple(DATE.atTime(15, 0), DATE.atTime(21, 0)));
+        assertThat(jumpability.windows().get(0).hours()).isEqualTo(6);
+
+        DailyJumpability day = jumpability.days().get(0);
+        assertThat(day.date()).isEqualTo(DATE);
+        assertThat(day.goHours()).isEqualTo(12);
+        assertThat(day.go()).isTrue();
+    }
+
+    @Test
+    void shouldApplyStricterRulesToWingsuitFriendlyDropzones() {
+        // Arrange
+        Dropzone wingsuit = Dropzone.builder().id(1L).isWingsuitFriendly(true).build();
+        Dropzone standard = Dropzone.builder().id(2L).isWingsuitFriendly(null).build();
+        HourlySeries overcast = HourlySeries.fromPoints(List.of(point(10, 5.0, 8.0, 70, 0.0, 20000)));
+
+        // Act
+        int wingsuitScore = scorer.assess(overcast, JumpRules.forDropzone(wingsuit)).hourlyScores()[0];
+        int standardScore = scorer.assess(overcast, JumpRules.forDropzone(standard)).hourlyScores()[0];
+
+        // Assert
+        assertThat(wingsuitScore).isZero();
+        assertThat(standardScore).isPositive();
+    }
+
+    @Test
+    void shouldRescoreOnlyChangedHoursAndDays() {
+        // Arrange
+        List<WeatherPoint> before = new ArrayList<>();
+        List<WeatherPoint> after = new ArrayList<>();
+        for (int hour = 0; hour < 48; hour++) {
+            LocalDateTime time = DATE.atStartOfDay().plusHours(hour);
+            boolean gusty = hour == 24 + 12;
+            before.add(point(time, 10.0, 14.0, 20, 0.0, 20000));
+            after.add(point(time, 10.0, gusty ? 60.0 : 14.0, 20, 0.0, 20000));
+        }
+        HourlySeries previousSeries = HourlySeries.fromPoints(before);
+        HourlySeries series = HourlySeries.fromPoints(after);
+        Jumpability previous = scorer.assess(previousSeries, JumpRules.STANDARD);
+
+        // Act
+        Jumpability rescored = scorer.rescore(previousSeries, previous, series, JumpRules.STANDARD);
+
+        // Assert
+        Jumpability full = scorer.assess(series, JumpRules.STANDARD);
+        assertThat(rescored.hourlyScores()).containsExactly(full.hourlyScores());
+        assertThat(rescored.days()).isEqualTo(full.days());
+        assertThat(rescored.windows()).isEqualTo(full.windows());
+        assertThat(rescored.days().get(0)).isSameAs(previous.days().get(0));
+        assertThat(rescored.days().get(1)).isNotSameAs(previous.days().get(1));
+    }
+
+    @Test
+    void shouldRescoreDayThatLostHours() {
+        // Arrange
+        List<WeatherPoint> points = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour++) {
+            points.add(point(hour, 10.0, 14.0, 20, 0.0, 20000));
+        }
+        HourlySeries previousSeries = HourlySeries.fromPoints(points);
+        HourlySeries series = HourlySeries.fromPoints(points.subList(0, 10));
+        Jumpability previous = scorer.assess(previousSeries, JumpRules.STANDARD);
+
+        // Act
+        Jumpability rescored = scorer.rescore(previousSeries, previous, series, JumpRules.STANDARD);
+
+        // Assert
+        assertThat(rescored.days()).isEqualTo(scorer.assess(series, JumpRules.STANDARD).days());
+        assertThat(rescored.windows().get(0).end()).isEqualTo(DATE.atTime(10, 0));
+    }
+
+    @Test
+    void shouldRescoreDayThatLostItsLastHour() {
+        // Arrange
+        List<WeatherPoint> before = new ArrayList<>();
+        for (int hour = 0; hour < 48; hour++) {
+            before.add(point(DATE.atStartOfDay().plusHours(hour), 10.0, 14.0, 20, 0.0, 20000));
+        }
+        List<WeatherPoint> after = new ArrayList<>(before);
+        after.remove(23);
+        HourlySeries previousSeries = HourlySeries.fromPoints(before);
+        HourlySeries series = HourlySeries.fromPoints(after);
+        Jumpability previous = scorer.assess(previousSeries, JumpRules.STANDARD);
+
+        // Act
+        Jumpability rescored = scorer.rescore(previousSeries, previous, series, JumpRules.STANDARD);
+
+        // Assert
+        Jumpability full = scorer.assess(series, JumpRules.STANDARD);
+        assertThat(rescored.days()).isEqualTo(full.days());
+        assertThat(rescored.windows()).isEqualTo(full.windows());
+        assertThat(rescored.days().get(0)).isNotSameAs(previous.days().get(0));
+        assertThat(rescored.days().get(1)).isSameAs(previous.days().get(1));
+    }
+
+    private static WeatherPoint point(int hour, double wind, double gusts, int cloudCover, double precipitation,
+                                      Integer visibility) {
+        return point(LocalDateTime.of(DATE, LocalTime.of(hour, 0)), wind, gusts, cloudCover, precipitation,
+                visibility);
+    }
+
+    private static WeatherPoint point(LocalDateTime time, double wind, double gusts, int cloudCover,
+                                      double precipitation, Integer visibility) {
+        return new WeatherPoint(time, 15.0, wind, gusts, 180,
+                cloudCover, precipitation, visibility, 1015.0);
+    }
+}
@@ -0,0 +1,131 @@
+package com.skydiveforecast.domain.service;
+
+import com.skydiveforecast.domain.model.ReportKey;
+import com.skydiveforecast.domain.model.ReportRecord;
+import com.skydiveforecast.domain.model.ReportRequest;
+import com.skydiveforecast.domain.model.ReportStatus;
+import com.skydiveforecast.domain.port.out.ModelRunSchedule;
+import com.skydiveforecast.domain.port.out.ReportRepository;
+import com.skydiveforecast.domain.port.out.ReportRequestPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.ArgumentCaptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RecommendationServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 6, 1);
+    private static final List<String> AIRPORTS = List.of("9", "7");
+    private static final String KEY = ReportKey.of(DATE, DATE, AIRPORTS);
+
+    private final ReportRequestPublisher reportRequestPublisher = mock(ReportRequestPublisher.class);
+    private final ReportRepository reportRepository = mock(ReportRepository.class);
+    private final ModelRunSchedule modelRunSchedule = mock(ModelRunSchedule.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecommendationService recommendationService =
+            new RecommendationService(reportRequestPublisher, reportRepository, modelRunSchedule, meterRegistry);
+
+    RecommendationServiceTest() {
+        ReflectionTestUtils.setField(recommendationService, "pendingTimeout", Duration.ofMinutes(10));
+        when(modelRunSchedule.currentModelRunAvailableAt()).thenReturn(Instant.now().minus(Duration.ofHours(1)));
+    }
+
+    @Test
+    void shouldSendNewRequestKeyedByContent() {
+        // Arrange
+        when(reportRepository.insertPending(any())).thenReturn(true);
+
+        // Act
+        String requestId = recommendationService.submitReportRequest(DATE, DATE, AIRPORTS, "u1");
+
+        // Assert
+        ArgumentCaptor<ReportRequest> sent = ArgumentCaptor.forClass(ReportRequest.class);
+        verify(reportRequestPublisher).publish(sent.capture());
+        assertThat(requestId).isEqualTo(KEY).isEqualTo(sent.getValue().requestId());
+        assertThat(sent.getValue().userId()).isEqualTo("u1");
+    }
+
+    @Test
+    void shouldReuseInProgressAndFreshCompletedReports() {
+        // Arrange
+        when(reportRepository.insertPending(any())).thenReturn(false);
+        when(reportRepository.findById(KEY))
+                .thenReturn(Optional.of(stored(ReportStatus.PENDING, Instant.now())))
+                .thenReturn(Optional.of(stored(ReportStatus.COMPLETED, Instant.now())));
+
+        // Act
+        String first = recommendationService.submitReportRequest(DATE, DATE, List.of("7", "9"), "u1");
+        String second = recommendationService.submitReportRequest(DATE, DATE, AIRPORTS, "u2");
+
+        // Assert
+        assertThat(first).isEqualTo(KEY).isEqualTo(second);
+        verify(reportRequestPublisher, never()).publish(any());
+        verify(reportRepository, never()).requeue(anyString(), anyLong(), any());
+        verify(reportRepository).addSubmitter(eq(KEY), eq("u1"), any());
+        verify(reportRepository).addSubmitter(eq(KEY), eq("u2"), any());
+        assertThat(meterRegistry.get("weather.reports.submit").tag("result", "reused").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRequeueReportFromEarlierModelRun() {
+        // Arrange
+        when(reportRepository.insertPending(any())).thenReturn(false);
+        when(reportRepository.findById(KEY))
+                .thenReturn(Optional.of(stored(ReportStatus.COMPLETED, Instant.now().minus(Duration.ofHours(4)))));
+        when(reportRepository.requeue(eq(KEY), eq(3L), any())).thenReturn(true);
+
+        // Act
+        recommendationService.submitReportRequest(DATE, DATE, AIRPORTS, "u1");
+
+        // Assert
+        verify(reportRequestPublisher).publish(any(ReportRequest.class));
+        assertThat(meterRegistry.get("weather.reports.submit").tag("result", "requeued").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldTimeSubmissionsThatFailToStore() {
+        // Arrange
+        when(reportRepository.insertPending(any())).thenThrow(new IllegalStateException("database down"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> recommendationService.submitReportRequest(DATE, DATE, AIRPORTS, "u1"))
+                .isInstanceOf(IllegalStateException.class);
+        verify(reportRequestPublisher, never()).publish(any());
+        assertThat(meterRegistry.get("weather.reports.submit").tag("result", "failed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("weather.reports.submit").tag("result", "new").timer().count()).isZero();
+    }
+
+    @Test
+    void shouldRejectMissingOrReversedDatesBeforeStoringAnything() {
+        // Act & Assert
+        assertThatThrownBy(() -> recommendationService.submitReportRequest(null, DATE, AIRPORTS, "u1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> recommendationService.submitReportRequest(DATE, DATE.minusDays(1), AIRPORTS, "u1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("before startDate");
+        verifyNoInteractions(reportRepository, reportRequestPublisher);
+    }
+
+    private static ReportRecord stored(ReportStatus status, Instant updatedAt) {
+        return new ReportRecord(KEY, status, DATE, DATE, AIRPORTS, null, null, 3, updatedAt, updatedAt);
+    }
+}
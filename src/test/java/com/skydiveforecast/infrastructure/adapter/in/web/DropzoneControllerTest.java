@@ -0,0 +1,50 @@
+package com.skydiveforecast.infrastructure.adapter.in.web;
+
+import com.skydiveforecast.application.service.DropzoneService;
+import com.skydiveforecast.domain.model.NearbyDropzone;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DropzoneControllerTest {
+
+    private final DropzoneService dropzoneService = mock(DropzoneService.class);
+    private final DropzoneController controller = new DropzoneController(dropzoneService);
+
+    @Test
+    void shouldRejectNonFiniteCoordinatesAndRadius() {
+        // Act & Assert
+        assertThatThrownBy(() -> controller.getNearbyDropzones(Double.NaN, 21.0, 100, 20))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> controller.getNearbyDropzones(52.2, Double.NaN, 100, 20))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> controller.getNearbyDropzones(52.2, 21.0, Double.NaN, 20))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> controller.getNearbyDropzones(52.2, 21.0, Double.POSITIVE_INFINITY, 20))
+                .isInstanceOf(ResponseStatusException.class);
+        verify(dropzoneService, never()).findNearby(anyDouble(), anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    void shouldFindNearbyDropzonesForValidQuery() {
+        // Arrange
+        when(dropzoneService.findNearby(52.2, 21.0, 100, 20)).thenReturn(List.of());
+
+        // Act
+        List<NearbyDropzone> result = controller.getNearbyDropzones(52.2, 21.0, 100, 20);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(dropzoneService).findNearby(52.2, 21.0, 100, 20);
+    }
+}
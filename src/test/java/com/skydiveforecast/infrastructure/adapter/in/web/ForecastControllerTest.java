@@ -0,0 +1,87 @@
+package com.skydiveforecast.infrastructure.adapter.in.web;
+
+import com.skydiveforecast.application.service.ForecastDemandTracker;
+import com.skydiveforecast.application.service.ForecastService;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.GeoPoint;
+import com.skydiveforecast.infrastructure.adapter.in.web.dto.BatchForecastRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ForecastControllerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 6, 1);
+    private static final GeoPoint WARSAW = new GeoPoint(52.23, 21.01);
+
+    private final ForecastService forecastService = mock(ForecastService.class);
+    private final ForecastDemandTracker demandTracker = new ForecastDemandTracker();
+    private final ForecastController controller = new ForecastController(forecastService, demandTracker);
+
+    @Test
+    void shouldRejectReversedOrOverlongRange() {
+        // Act & Assert
+        assertBadRequest(() -> controller.getForecastsForRange(52.23, 21.01, DATE, DATE.minusDays(1)));
+        assertBadRequest(() -> controller.getForecastsForRange(52.23, 21.01, DATE, DATE.plusDays(16)));
+        assertBadRequest(() -> controller.getForecastsBatch(batch(DATE, DATE.minusDays(1), List.of(WARSAW))));
+        verifyNoInteractions(forecastService);
+    }
+
+    @Test
+    void shouldRejectBatchWithoutDateOrWithTooManyLocations() {
+        // Act & Assert
+        assertBadRequest(() -> controller.getForecastsBatch(batch(null, null, List.of(WARSAW))));
+        assertBadRequest(() -> controller.getForecastsBatch(batch(DATE, null, Collections.nCopies(201, WARSAW))));
+        assertBadRequest(() -> controller.getForecastsBatch(batch(DATE, null, Collections.singletonList(null))));
+        verifyNoInteractions(forecastService);
+    }
+
+    @Test
+    void shouldRejectInvalidCoordinatesWithoutRecordingDemand() {
+        // Act & Assert
+        assertBadRequest(() -> controller.getForecasts(Double.NaN, 21.01, DATE));
+        assertBadRequest(() -> controller.getForecastsReactive(52.23, 181, DATE));
+        assertBadRequest(() -> controller.getForecastsForRange(91, 21.01, DATE, DATE));
+        assertBadRequest(() -> controller.getForecastsBatch(batch(DATE, null,
+                List.of(WARSAW, new GeoPoint(52.23, Double.POSITIVE_INFINITY)))));
+        verifyNoInteractions(forecastService);
+        assertThat(demandTracker.demand(WARSAW.latitude(), WARSAW.longitude())).isZero();
+    }
+
+    @Test
+    void shouldServeRangeUpToSixteenDays() {
+        // Arrange
+        Forecast forecast = Forecast.empty(52.23, 21.01);
+        when(forecastService.getForecast(52.23, 21.01, DATE, DATE.plusDays(15))).thenReturn(forecast);
+
+        // Act
+        Forecast result = controller.getForecastsForRange(52.23, 21.01, DATE, DATE.plusDays(15));
+
+        // Assert
+        assertThat(result).isSameAs(forecast);
+    }
+
+    private static BatchForecastRequest batch(LocalDate date, LocalDate endDate, List<GeoPoint> locations) {
+        BatchForecastRequest request = new BatchForecastRequest();
+        request.setDate(date);
+        request.setEndDate(endDate);
+        request.setLocations(locations);
+        return request;
+    }
+
+    private static void assertBadRequest(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
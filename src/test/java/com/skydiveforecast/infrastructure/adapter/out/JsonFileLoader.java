@@ -9,6 +9,7 @@ public class JsonFileLoader {
 
     private static final String WIREMOCK_BASE_PATH = "wiremock/dropzones/";
     private static final String MOCKWEBSERVER_BASE_PATH = "mockwebserver/dropzones/";
+    private static final String MOCKWEBSERVER_OPEN_METEO_BASE_PATH = "mockwebserver/open-meteo/";
 
     public static String loadWiremockDropzoneJson(String fileName) {
         return loadJson(WIREMOCK_BASE_PATH + fileName);
@@ -18,6 +19,10 @@ public class JsonFileLoader {
         return loadJson(MOCKWEBSERVER_BASE_PATH + fileName);
     }
 
+    public static String loadMockwebserverOpenMeteoJson(String fileName) {
+        return loadJson(MOCKWEBSERVER_OPEN_METEO_BASE_PATH + fileName);
+    }
+
     public static String loadJson(String path) {
         try {
             ClassPathResource resource = new ClassPathResource(path);
@@ -0,0 +1,70 @@
+package com.skydiveforecast.infrastructure.adapter.out;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.HourlySeries;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.skydiveforecast.infrastructure.adapter.out.JsonFileLoader.loadMockwebserverOpenMeteoJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenMeteoForecastDecoderTest {
+
+    private final OpenMeteoForecastDecoder decoder = new OpenMeteoForecastDecoder(new JsonFactory(), 1024 * 1024);
+
+    @Test
+    void shouldDecodeColumnsAndMissingValues() throws IOException {
+        // Act
+        List<Forecast> forecasts = decode(loadMockwebserverOpenMeteoJson("single-day-response.json"));
+
+        // Assert
+        HourlySeries series = forecasts.get(0).series();
+        assertThat(series.size()).isEqualTo(24);
+        assertThat(series.time(0)).isEqualTo(LocalDateTime.of(2025, 6, 1, 0, 0));
+        assertThat(series.time(23)).isEqualTo(LocalDateTime.of(2025, 6, 1, 23, 0));
+        assertThat(series.hasVisibility(3)).isFalse();
+        assertThat(series.pressureHpa()[3]).isNaN();
+        assertThat(series.temperatureC()[4]).isNaN();
+        assertThat(series.visibilityM()[0]).isEqualTo(24140);
+    }
+
+    @Test
+    void shouldDecodeOneForecastPerLocationFromArray() throws IOException {
+        // Act
+        List<Forecast> forecasts = decode(loadMockwebserverOpenMeteoJson("two-locations-response.json"));
+
+        // Assert
+        assertThat(forecasts).extracting(Forecast::latitude).containsExactly(52.22, 50.06);
+    }
+
+    @Test
+    void shouldPadShortColumnsAndParseTimestampsWithSeconds() throws IOException {
+        // Act
+        List<Forecast> forecasts = decode("""
+                {"latitude": 1.0, "longitude": 2.0, "hourly": {
+                  "time": ["1969-12-31T23:00:30", "2024-02-29T12:00"],
+                  "wind_speed_10m": [5.5],
+                  "cloud_cover": [null, 80],
+                  "visibility": [1000]
+                }}""");
+
+        // Assert
+        HourlySeries series = forecasts.get(0).series();
+        assertThat(series.time(0)).isEqualTo(LocalDateTime.of(1969, 12, 31, 23, 0, 30));
+        assertThat(series.time(1)).isEqualTo(LocalDateTime.of(2024, 2, 29, 12, 0));
+        assertThat(series.windSpeed10m()).containsExactly(5.5, Double.NaN);
+        assertThat(series.cloudCoverPct()).containsExactly(0, 80);
+        assertThat(series.precipitationMm()).containsExactly(0.0, 0.0);
+        assertThat(series.hasVisibility(1)).isFalse();
+    }
+
+    private List<Forecast> decode(String json) throws IOException {
+        return decoder.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,304 @@
+package com.skydiveforecast.infrastructure.adapter.out;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.GeoPoint;
+import com.skydiveforecast.domain.model.WeatherPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.skydiveforecast.infrastructure.adapter.out.JsonFileLoader.loadMockwebserverOpenMeteoJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenMeteoWeatherAdapterTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 6, 1);
+
+    private MockWebServer mockWebServer;
+    private WebClient webClient;
+    private OpenMeteoWeatherAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+
+        webClient = WebClient.builder()
+                .codecs(codecs -> codecs.customCodecs().register(
+                        new OpenMeteoForecastDecoder(new JsonFactory(), 16 * 1024 * 1024)))
+                .build();
+        adapter = adapter(new ModelGridQuantizer(ModelGridQuantizer.BEST_MATCH, null));
+    }
+
+    private OpenMeteoWeatherAdapter adapter(ModelGridQuantizer quantizer) {
+        OpenMeteoWeatherAdapter adapter = new OpenMeteoWeatherAdapter(webClient,
+                new ForecastCacheKeyGenerator(quantizer), quantizer, new ConcurrentMapCacheManager(),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(adapter, "openMeteoUrl", mockWebServer.url("/").toString());
+        ReflectionTestUtils.setField(adapter, "maxLocationsPerRequest", 50);
+        return adapter;
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void shouldMapHourlyResponseToForecast() throws InterruptedException {
+        // Arrange
+        enqueueJson("single-day-response.json");
+
+        // Act
+        Forecast forecast = adapter.getHourlyForecast(52.2297, 21.0122, DATE);
+
+        // Assert
+        assertThat(forecast.latitude()).isEqualTo(52.22);
+        assertThat(forecast.longitude()).isEqualTo(21.02);
+        assertThat(forecast.hours()).hasSize(24);
+
+        WeatherPoint first = forecast.hours().get(0);
+        assertThat(first.time()).isEqualTo(LocalDateTime.of(2025, 6, 1, 0, 0));
+        assertThat(first.temperatureC()).isEqualTo(7.8);
+        assertThat(first.windSpeed10m()).isEqualTo(8.0);
+        assertThat(first.windGusts10m()).isEqualTo(15.0);
+        assertThat(first.windDirectionDeg()).isEqualTo(200);
+        assertThat(first.cloudCoverPct()).isZero();
+        assertThat(first.precipitationMm()).isZero();
+        assertThat(first.visibilityM()).isEqualTo(24140);
+        assertThat(first.pressureHpa()).isEqualTo(1015.0);
+
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertThat(request.getPath()).startsWith("/v1/forecast");
+        assertThat(request.getRequestUrl().queryParameter("start_date")).isEqualTo("2025-06-01");
+        assertThat(request.getRequestUrl().queryParameter("end_date")).isEqualTo("2025-06-01");
+    }
+
+    @Test
+    void shouldMapMissingValuesToDefaults() {
+        // Arrange
+        enqueueJson("single-day-response.json");
+
+        // Act
+        Forecast forecast = adapter.getHourlyForecast(52.2297, 21.0122, DATE);
+
+        // Assert
+        assertThat(forecast.hours().get(3).visibilityM()).isNull();
+        assertThat(forecast.hours().get(3).pressureHpa()).isNull();
+        assertThat(forecast.hours().get(4).temperatureC()).isNaN();
+    }
+
+    @Test
+    void shouldReturnEmptyForecastWhenHourlyBlockMissing() {
+        // Arrange
+        enqueueJson("no-hourly-response.json");
+
+        // Act
+        Forecast forecast = adapter.getHourlyForecast(52.2297, 21.0122, DATE);
+
+        // Assert
+        assertThat(forecast.latitude()).isEqualTo(52.22);
+        assertThat(forecast.hours()).isEmpty();
+    }
+
+    @Test
+    void shouldFetchForecastReactively() {
+        // Arrange
+        enqueueJson("single-day-response.json");
+
+        // Act
+        Forecast forecast = adapter.getHourlyForecastReactive(52.2297, 21.0122, DATE).block();
+
+        // Assert
+        assertThat(forecast).isNotNull();
+        assertThat(forecast.hours()).hasSize(24);
+    }
+
+    @Test
+    void shouldPropagateUpstreamErrorForCircuitBreaker() {
+        // Arrange
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+        // Act & Assert
+        assertThatThrownBy(() -> adapter.getHourlyForecast(52.2297, 21.0122, DATE))
+                .isInstanceOf(WebClientResponseException.class);
+    }
+
+    @Test
+    void shouldFetchBatchInSingleUpstreamCallAndSplitPerLocation() throws InterruptedException {
+        // Arrange
+        enqueueJson("two-locations-response.json");
+        List<GeoPoint> locations = List.of(new GeoPoint(52.2297, 21.0122), new GeoPoint(50.0647, 19.9450));
+
+        // Act
+        List<Forecast> forecasts = adapter.getHourlyForecasts(locations, DATE);
+
+        // Assert
+        assertThat(forecasts).hasSize(2);
+        assertThat(forecasts.get(0).latitude()).isEqualTo(52.22);
+        assertThat(forecasts.get(1).latitude()).isEqualTo(50.06);
+        assertThat(forecasts.get(1).hours().get(0).windSpeed10m()).isEqualTo(18.0);
+
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertThat(request.getRequestUrl().queryParameter("latitude")).isEqualTo("52.22,50.06");
+        assertThat(request.getRequestUrl().queryParameter("longitude")).isEqualTo("21.02,19.94");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFillCachePerLocationAndOnlyFetchMisses() throws InterruptedException {
+        // Arrange
+        enqueueJson("two-locations-response.json");
+        enqueueJson("single-day-response.json");
+        adapter.getHourlyForecasts(List.of(new GeoPoint(52.2297, 21.0122), new GeoPoint(50.0647, 19.9450)), DATE);
+        mockWebServer.takeRequest();
+
+        // Act
+        List<Forecast> forecasts = adapter.getHourlyForecasts(
+                List.of(new GeoPoint(50.0647, 19.9450), new GeoPoint(54.36, 18.64)), DATE);
+
+        // Assert
+        assertThat(forecasts).hasSize(2);
+        assertThat(forecasts.get(0).latitude()).isEqualTo(50.06);
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertThat(request.getRequestUrl().queryParameter("latitude")).isEqualTo("54.36");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSplitBatchIntoChunksOfMaxLocations() {
+        // Arrange
+        ReflectionTestUtils.setField(adapter, "maxLocationsPerRequest", 1);
+        enqueueJson("single-day-response.json");
+        enqueueJson("single-day-response.json");
+
+        // Act
+        List<Forecast> forecasts = adapter.getHourlyForecasts(
+                List.of(new GeoPoint(52.2297, 21.0122), new GeoPoint(50.0647, 19.9450)), DATE);
+
+        // Assert
+        assertThat(forecasts).hasSize(2);
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFetchDateRangeInSingleCallAndServeLaterDaysFromCache() throws InterruptedException {
+        // Arrange
+        enqueueJson("three-day-response.json");
+
+        // Act
+        Forecast range = adapter.getHourlyForecast(52.2297, 21.0122, DATE, DATE.plusDays(2));
+        List<Forecast> secondDay = adapter.getHourlyForecasts(List.of(new GeoPoint(52.2297, 21.0122)), DATE.plusDays(1));
+
+        // Assert
+        assertThat(range.hours()).hasSize(72);
+        assertThat(secondDay.get(0).hours()).hasSize(24);
+        assertThat(secondDay.get(0).hours().get(0).time()).isEqualTo(LocalDateTime.of(2025, 6, 2, 0, 0));
+
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertThat(request.getRequestUrl().queryParameter("start_date")).isEqualTo("2025-06-01");
+        assertThat(request.getRequestUrl().queryParameter("end_date")).isEqualTo("2025-06-03");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldOnlyFetchMissingDaysOfOverlappingRange() throws InterruptedException {
+        // Arrange
+        enqueueJson("single-day-response.json");
+        enqueueJson("two-day-response.json");
+        adapter.getHourlyForecast(52.2297, 21.0122, DATE, DATE);
+        mockWebServer.takeRequest();
+
+        // Act
+        Forecast range = adapter.getHourlyForecast(52.2297, 21.0122, DATE, DATE.plusDays(2));
+
+        // Assert
+        assertThat(range.hours()).hasSize(72);
+        assertThat(range.hours().get(0).time()).isEqualTo(LocalDateTime.of(2025, 6, 1, 0, 0));
+        assertThat(range.hours().get(71).time()).isEqualTo(LocalDateTime.of(2025, 6, 3, 23, 0));
+
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertThat(request.getRequestUrl().queryParameter("start_date")).isEqualTo("2025-06-02");
+        assertThat(request.getRequestUrl().queryParameter("end_date")).isEqualTo("2025-06-03");
+    }
+
+    @Test
+    void shouldFetchAtCellCentreAndServeNearbyPointsFromSameEntry() throws InterruptedException {
+        // Arrange
+        enqueueJson("single-day-response.json");
+        adapter.getHourlyForecasts(List.of(new GeoPoint(52.2297, 21.0122)), DATE);
+
+        // Act
+        List<Forecast> nearby = adapter.getHourlyForecasts(List.of(new GeoPoint(52.2298, 21.0149)), DATE);
+
+        // Assert
+        assertThat(nearby.get(0).hours()).hasSize(24);
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertThat(request.getRequestUrl().queryParameter("latitude")).isEqualTo("52.22");
+        assertThat(request.getRequestUrl().queryParameter("longitude")).isEqualTo("21.02");
+        assertThat(request.getRequestUrl().queryParameter("models")).isNull();
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCollapseBatchLocationsInSameCell() throws InterruptedException {
+        // Arrange
+        enqueueJson("single-day-response.json");
+        List<GeoPoint> locations = List.of(new GeoPoint(52.2297, 21.0122), new GeoPoint(52.2298, 21.0123));
+
+        // Act
+        List<Forecast> forecasts = adapter.getHourlyForecasts(locations, DATE);
+
+        // Assert
+        assertThat(forecasts).hasSize(2);
+        assertThat(forecasts.get(1).series()).isSameAs(forecasts.get(0).series());
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertThat(request.getRequestUrl().queryParameter("latitude")).isEqualTo("52.22");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSnapToSelectedModelGridAndRequestThatModel() throws InterruptedException {
+        // Arrange
+        adapter = adapter(new ModelGridQuantizer("icon_eu", null));
+        enqueueJson("single-day-response.json");
+
+        // Act
+        adapter.getHourlyForecast(52.2297, 21.0122, DATE);
+
+        // Assert
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertThat(request.getRequestUrl().queryParameter("latitude")).isEqualTo("52.2500");
+        assertThat(request.getRequestUrl().queryParameter("longitude")).isEqualTo("21.0000");
+        assertThat(request.getRequestUrl().queryParameter("models")).isEqualTo("icon_eu");
+    }
+
+    @Test
+    void shouldRejectRangeEndingBeforeItStarts() {
+        // Act & Assert
+        assertThatThrownBy(() -> adapter.getHourlyForecast(52.2297, 21.0122, DATE, DATE.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void enqueueJson(String fileName) {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(loadMockwebserverOpenMeteoJson(fileName))
+                .addHeader("Content-Type", "application/json")
+                .setResponseCode(200));
+    }
+}
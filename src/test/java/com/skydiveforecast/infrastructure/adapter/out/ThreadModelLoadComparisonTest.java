@@ -0,0 +1,129 @@
+package com.skydiveforecast.infrastructure.adapter.out;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.skydiveforecast.infrastructure.adapter.out.JsonFileLoader.loadMockwebserverOpenMeteoJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Opt-in load comparison: mvn test -Dtest=ThreadModelLoadComparisonTest -DloadComparison=true
+@EnabledIfSystemProperty(named = "loadComparison", matches = "true")
+class ThreadModelLoadComparisonTest {
+
+    private static final int REQUESTS = 2_000;
+    private static final int PLATFORM_POOL_SIZE = 200; // Tomcat's default max threads
+    private static final long UPSTREAM_DELAY_MS = 250;
+    private static final LocalDate START_DATE = LocalDate.of(2025, 6, 1);
+
+    private MockWebServer mockWebServer;
+    private OpenMeteoWeatherAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String body = loadMockwebserverOpenMeteoJson("single-day-response.json");
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse()
+                        .setBody(body)
+                        .addHeader("Content-Type", "application/json")
+                        .setHeadersDelay(UPSTREAM_DELAY_MS, TimeUnit.MILLISECONDS);
+            }
+        });
+        mockWebServer.start();
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("load-comparison")
+                .maxConnections(REQUESTS)
+                .pendingAcquireMaxCount(REQUESTS)
+                .build();
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .codecs(codecs -> codecs.customCodecs().register(
+                        new OpenMeteoForecastDecoder(new JsonFactory(), 16 * 1024 * 1024)))
+                .build();
+
+        ModelGridQuantizer quantizer = new ModelGridQuantizer(ModelGridQuantizer.BEST_MATCH, null);
+        adapter = new OpenMeteoWeatherAdapter(webClient, new ForecastCacheKeyGenerator(quantizer), quantizer,
+                new ConcurrentMapCacheManager(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(adapter, "openMeteoUrl", mockWebServer.url("/").toString());
+        ReflectionTestUtils.setField(adapter, "maxLocationsPerRequest", 50);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void comparePlatformThreadPoolWithVirtualThreads() throws Exception {
+        // Arrange
+        run(Executors.newFixedThreadPool(PLATFORM_POOL_SIZE), 200); // warm-up
+
+        // Act
+        Result platform = run(Executors.newFixedThreadPool(PLATFORM_POOL_SIZE), REQUESTS);
+        Result virtual = run(Executors.newVirtualThreadPerTaskExecutor(), REQUESTS);
+
+        // Assert
+        System.out.printf("%-22s %12s %10s %10s%n", "mode", "throughput/s", "p50 ms", "p99 ms");
+        System.out.println(platform.format("platform (" + PLATFORM_POOL_SIZE + " threads)"));
+        System.out.println(virtual.format("virtual threads"));
+        assertThat(virtual.throughputPerSecond()).isGreaterThan(platform.throughputPerSecond());
+    }
+
+    private Result run(ExecutorService executor, int requests) throws Exception {
+        long[] latenciesNanos = new long[requests];
+        List<Future<?>> futures = new ArrayList<>(requests);
+        long start = System.nanoTime();
+        try (executor) {
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                long submittedAt = System.nanoTime();
+                futures.add(executor.submit(() -> {
+                    // distinct keys so single-flight does not coalesce the calls
+                    adapter.getHourlyForecast(40.0 + index * 0.05, 20.0, START_DATE.plusDays(index % 16));
+                    latenciesNanos[index] = System.nanoTime() - submittedAt;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        Arrays.sort(latenciesNanos);
+        return new Result(
+                requests * 1_000_000_000.0 / elapsedNanos,
+                latenciesNanos[requests / 2] / 1_000_000.0,
+                latenciesNanos[(int) Math.ceil(requests * 0.99) - 1] / 1_000_000.0);
+    }
+
+    private record Result(double throughputPerSecond, double p50Millis, double p99Millis) {
+        String format(String mode) {
+            return String.format("%-22s %12.1f %10.1f %10.1f", mode, throughputPerSecond, p50Millis, p99Millis);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.skydiveforecast.infrastructure.adapter.out;
 
 import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.service.AuthService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -12,11 +14,15 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static com.skydiveforecast.infrastructure.adapter.out.JsonFileLoader.loadMockwebserverDropzoneJson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class WebClientDropzoneAdapterTest {
 
@@ -24,6 +30,8 @@ class WebClientDropzoneAdapterTest {
 
     private MockWebServer mockWebServer;
     private WebClientDropzoneAdapter adapter;
+    private AuthService authService;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() throws IOException {
@@ -34,8 +42,12 @@ class WebClientDropzoneAdapterTest {
                 .baseUrl(mockWebServer.url("/").toString())
                 .build();
 
-        adapter = new WebClientDropzoneAdapter(webClient);
+        authService = mock(AuthService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new WebClientDropzoneAdapter(webClient, authService, meterRegistry);
         ReflectionTestUtils.setField(adapter, "locationServiceUrl", "");
+        ReflectionTestUtils.setField(adapter, "refreshAfter", Duration.ofHours(1));
+        ReflectionTestUtils.setField(adapter, "authorizationTtl", Duration.ofMinutes(5));
     }
 
     @AfterEach
@@ -144,6 +156,8 @@ class WebClientDropzoneAdapterTest {
         assertThatThrownBy(() -> adapter.getDropzones(JWT_TOKEN))
                 .isInstanceOf(DropzoneClientException.class)
                 .hasMessageContaining("Failed to fetch dropzones");
+        assertThat(meterRegistry.get("location.service.requests").tag("outcome", "server_error").timer().count())
+                .isEqualTo(1);
     }
 
     @Test
@@ -165,4 +179,103 @@ class WebClientDropzoneAdapterTest {
         assertThat(wingsuitFriendly).hasSize(1);
         assertThat(wingsuitFriendly.get(0).getName()).isEqualTo("Pro Dropzone");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldServeCatalogFromMemoryOnceLocationServiceAuthorizedCaller() throws InterruptedException {
+        // Arrange
+        enqueueDropzones("two-dropzones-response.json", "\"v1\"");
+        mockWebServer.enqueue(new MockResponse().setResponseCode(304));
+        adapter.getDropzones(JWT_TOKEN);
+        mockWebServer.takeRequest();
+        when(authService.isTokenValid("other-caller-token")).thenReturn(true);
+
+        // Act
+        List<Dropzone> first = adapter.getDropzones("other-caller-token");
+        List<Dropzone> second = adapter.getDropzones("other-caller-token");
+
+        // Assert
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(2);
+        RecordedRequest authorization = mockWebServer.takeRequest();
+        assertThat(authorization.getHeader("Authorization")).isEqualTo("Bearer other-caller-token");
+        assertThat(authorization.getHeader("If-None-Match")).isEqualTo("\"v1\"");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectCallerLocationServiceRefusesWhenServingFromMemory() {
+        // Arrange
+        enqueueDropzones("two-dropzones-response.json", "\"v1\"");
+        mockWebServer.enqueue(new MockResponse().setResponseCode(403));
+        adapter.getDropzones(JWT_TOKEN);
+        when(authService.isTokenValid("revoked-token")).thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> adapter.getDropzones("revoked-token"))
+                .isInstanceOf(DropzoneClientException.class)
+                .hasMessageContaining("refused the token");
+    }
+
+    @Test
+    void shouldRejectInvalidCallerTokenWhenServingFromMemory() {
+        // Arrange
+        enqueueDropzones("two-dropzones-response.json", "\"v1\"");
+        adapter.getDropzones(JWT_TOKEN);
+        when(authService.isTokenValid("forged-token")).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> adapter.getDropzones("forged-token"))
+                .isInstanceOf(DropzoneClientException.class)
+                .hasMessageContaining("Failed to fetch dropzones");
+    }
+
+    @Test
+    void shouldRevalidateStaleCatalogWithConditionalGet() throws InterruptedException {
+        // Arrange
+        enqueueDropzones("two-dropzones-response.json", "\"v1\"");
+        mockWebServer.enqueue(new MockResponse().setResponseCode(304));
+        adapter.getDropzones(JWT_TOKEN);
+        mockWebServer.takeRequest();
+        ReflectionTestUtils.setField(adapter, "refreshAfter", Duration.ZERO);
+        when(authService.isTokenValid(JWT_TOKEN)).thenReturn(true);
+
+        // Act
+        List<Dropzone> result = adapter.getDropzones(JWT_TOKEN);
+
+        // Assert
+        assertThat(result).hasSize(2);
+        RecordedRequest revalidation = mockWebServer.takeRequest(5, TimeUnit.SECONDS);
+        assertThat(revalidation).isNotNull();
+        assertThat(revalidation.getHeader("If-None-Match")).isEqualTo("\"v1\"");
+    }
+
+    @Test
+    void shouldKeepServingLastSnapshotWhenLocationServiceIsDown() throws InterruptedException {
+        // Arrange
+        enqueueDropzones("two-dropzones-response.json", null);
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        adapter.getDropzones(JWT_TOKEN);
+        mockWebServer.takeRequest();
+        ReflectionTestUtils.setField(adapter, "refreshAfter", Duration.ZERO);
+        when(authService.isTokenValid(JWT_TOKEN)).thenReturn(true);
+        adapter.getDropzones(JWT_TOKEN);
+        assertThat(mockWebServer.takeRequest(5, TimeUnit.SECONDS)).isNotNull();
+
+        // Act
+        List<Dropzone> result = adapter.getDropzones(JWT_TOKEN);
+
+        // Assert
+        assertThat(result).extracting(Dropzone::getName).containsExactly("Skydive Warsaw", "Skydive Krakow");
+    }
+
+    private void enqueueDropzones(String fileName, String etag) {
+        MockResponse response = new MockResponse()
+                .setBody(loadMockwebserverDropzoneJson(fileName))
+                .addHeader("Content-Type", "application/json")
+                .setResponseCode(200);
+        if (etag != null) {
+            response.addHeader("ETag", etag);
+        }
+        mockWebServer.enqueue(response);
+    }
+}
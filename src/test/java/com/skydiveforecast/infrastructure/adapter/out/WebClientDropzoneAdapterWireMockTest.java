@@ -1,24 +1,29 @@
 package com.skydiveforecast.infrastructure.adapter.out;
 
 import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.service.AuthService;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.skydiveforecast.infrastructure.adapter.out.JsonFileLoader.loadWiremockDropzoneJson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
 
 @WireMockTest(httpPort = 8089)
 class WebClientDropzoneAdapterWireMockTest {
 
     private WebClientDropzoneAdapter adapter;
+    private AuthService authService;
     private String jwtToken;
 
     @BeforeEach
@@ -27,8 +32,10 @@ class WebClientDropzoneAdapterWireMockTest {
                 .baseUrl("http://localhost:8089")
                 .build();
 
-        adapter = new WebClientDropzoneAdapter(webClient);
+        authService = mock(AuthService.class);
+        adapter = new WebClientDropzoneAdapter(webClient, authService, new SimpleMeterRegistry());
         ReflectionTestUtils.setField(adapter, "locationServiceUrl", "");
+        ReflectionTestUtils.setField(adapter, "refreshAfter", Duration.ofHours(1));
 
         jwtToken = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.test";
     }
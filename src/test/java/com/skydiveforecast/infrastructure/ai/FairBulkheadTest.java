@@ -0,0 +1,92 @@
+package com.skydiveforecast.infrastructure.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FairBulkheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldServeQueuedUsersInTurn() {
+        // Arrange
+        FairBulkhead bulkhead = new FairBulkhead("test", 1, 10, 5, Duration.ofMinutes(1), meterRegistry);
+        FairBulkhead.Permit running = bulkhead.acquire(1L).join();
+        List<String> served = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String name = "heavy-" + i;
+            bulkhead.acquire(1L).thenAccept(permit -> {
+                served.add(name);
+                permit.release();
+            });
+        }
+        bulkhead.acquire(2L).thenAccept(permit -> {
+            served.add("light");
+            permit.release();
+        });
+
+        // Act
+        running.release();
+
+        // Assert
+        assertThat(served).containsExactly("heavy-0", "light", "heavy-1", "heavy-2");
+        assertThat(bulkhead.active()).isZero();
+        assertThat(bulkhead.queued()).isZero();
+    }
+
+    @Test
+    void shouldRejectWhenQueueOrUserQueueIsFull() {
+        // Arrange
+        FairBulkhead bulkhead = new FairBulkhead("test", 1, 2, 1, Duration.ofMinutes(1), meterRegistry);
+        bulkhead.acquire(1L).join();
+        bulkhead.acquire(1L);
+
+        // Act
+        CompletableFuture<FairBulkhead.Permit> sameUser = bulkhead.acquire(1L);
+        bulkhead.acquire(2L);
+        CompletableFuture<FairBulkhead.Permit> overflow = bulkhead.acquire(3L);
+
+        // Assert
+        assertThatThrownBy(sameUser::join).hasCauseInstanceOf(LlmRejectedException.class);
+        assertThatThrownBy(overflow::join).isInstanceOf(CompletionException.class)
+                .cause().hasFieldOrPropertyWithValue("reason", LlmRejectedException.Reason.QUEUE_FULL);
+        assertThat(meterRegistry.get("bulkhead.rejected").tag("reason", "user_queue_full").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("bulkhead.queue.depth").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldGiveUpQueuedPlaceOnTimeoutOrCancel() {
+        // Arrange
+        FairBulkhead bulkhead = new FairBulkhead("test", 1, 10, 5, Duration.ofMillis(50), meterRegistry);
+        FairBulkhead.Permit running = bulkhead.acquire(1L).join();
+        CompletableFuture<FairBulkhead.Permit> cancelled = bulkhead.acquire(2L);
+        CompletableFuture<FairBulkhead.Permit> timedOut = bulkhead.acquire(3L);
+
+        // Act
+        cancelled.cancel(false);
+
+        // Assert
+        assertThatThrownBy(timedOut::join).cause()
+                .hasFieldOrPropertyWithValue("reason", LlmRejectedException.Reason.WAIT_TIMEOUT);
+        assertThat(bulkhead.queued()).isZero();
+        running.release();
+        assertThat(bulkhead.active()).isZero();
+        assertThat(bulkhead.acquire(4L)).isCompleted();
+    }
+}
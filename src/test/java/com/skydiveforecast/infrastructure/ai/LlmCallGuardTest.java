@@ -0,0 +1,59 @@
+package com.skydiveforecast.infrastructure.ai;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LlmCallGuardTest {
+
+    private final LlmCallGuard guard = new LlmCallGuard(1, 10, 5, Duration.ofSeconds(5),
+            CircuitBreakerRegistry.ofDefaults(),
+            TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(50)).build()),
+            new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        guard.shutdown();
+    }
+
+    @Test
+    void shouldInterruptTimedOutCallAndHoldPermitUntilItReturns() throws Exception {
+        // Arrange
+        CountDownLatch upstreamReturns = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CompletableFuture<String> slow = guard.call(1L, () -> {
+            // a client that ignores the interrupt keeps the call, and so the permit, until it returns
+            while (true) {
+                try {
+                    upstreamReturns.await();
+                    return "late";
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+            }
+        });
+
+        // Act
+        assertThatThrownBy(slow::join).hasCauseInstanceOf(TimeoutException.class);
+        CompletableFuture<String> next = guard.call(2L, () -> "next");
+
+        // Assert
+        assertThat(next).isNotDone();
+        upstreamReturns.countDown();
+        assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo("next");
+        assertThat(interrupted).isTrue();
+    }
+}
@@ -0,0 +1,99 @@
+package com.skydiveforecast.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<String, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("test", meterRegistry);
+    }
+
+    @Test
+    void shouldShareInFlightLoadBetweenConcurrentCallers() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        List<CompletableFuture<String>> callers = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            callers.add(singleFlight.execute("52.22,21.02,2025-06-01", () -> {
+                loads.incrementAndGet();
+                return upstream;
+            }));
+        }
+        upstream.complete("forecast");
+
+        // Assert
+        assertThat(loads).hasValue(1);
+        assertThat(callers).allSatisfy(caller -> assertThat(caller.join()).isEqualTo("forecast"));
+        assertThat(meterRegistry.get("singleflight.calls").tag("result", "coalesced").counter().count())
+                .isEqualTo(9.0);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void shouldStartNewLoadAfterPreviousCompleted() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        singleFlight.execute("key", () -> CompletableFuture.completedFuture("v" + loads.incrementAndGet())).join();
+        String second = singleFlight.execute("key",
+                () -> CompletableFuture.completedFuture("v" + loads.incrementAndGet())).join();
+
+        // Assert
+        assertThat(second).isEqualTo("v2");
+    }
+
+    @Test
+    void shouldNotCoalesceDifferentKeys() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        singleFlight.execute("a", () -> {
+            loads.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        singleFlight.execute("b", () -> {
+            loads.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        // Assert
+        assertThat(loads).hasValue(2);
+        assertThat(singleFlight.inFlightCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPropagateFailureToAllWaitersAndClearKey() {
+        // Arrange
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("key", () -> upstream);
+        CompletableFuture<String> second = singleFlight.execute("key", () -> upstream);
+
+        // Act
+        upstream.completeExceptionally(new IllegalStateException("upstream down"));
+
+        // Assert
+        assertThatThrownBy(first::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+}
@@ -0,0 +1,108 @@
+package com.skydiveforecast.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoLevelCacheTest {
+
+    private Cache<Object, Object> localCache;
+    private ConcurrentMapCache remoteCache;
+    private TwoLevelCache cache;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        localCache = Caffeine.newBuilder().maximumSize(100).build();
+        remoteCache = new ConcurrentMapCache("remote", false);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TwoLevelCache("forecasts", localCache, remoteCache, meterRegistry);
+    }
+
+    @Test
+    void shouldWriteThroughToBothTiers() {
+        // Act
+        cache.put("52.22,21.02,2025-06-01", "forecast");
+
+        // Assert
+        assertThat(localCache.getIfPresent("52.22,21.02,2025-06-01")).isEqualTo("forecast");
+        assertThat(remoteCache.get("52.22,21.02,2025-06-01").get()).isEqualTo("forecast");
+    }
+
+    @Test
+    void shouldPromoteRemoteHitIntoLocalTier() {
+        // Arrange
+        remoteCache.put("key", "from-redis");
+
+        // Act
+        Object value = cache.get("key").get();
+
+        // Assert
+        assertThat(value).isEqualTo("from-redis");
+        assertThat(localCache.getIfPresent("key")).isEqualTo("from-redis");
+        assertThat(gets("local", "miss")).isEqualTo(1);
+        assertThat(gets("remote", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeLocalHitWithoutTouchingRemoteTier() {
+        // Arrange
+        localCache.put("key", "local");
+        remoteCache.put("key", "remote");
+
+        // Act
+        Object value = cache.get("key").get();
+
+        // Assert
+        assertThat(value).isEqualTo("local");
+    }
+
+    @Test
+    void shouldLoadOnceOnMissAndCacheResult() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        String first = cache.get("key", () -> "loaded-" + loads.incrementAndGet());
+        String second = cache.get("key", () -> "loaded-" + loads.incrementAndGet());
+
+        // Assert
+        assertThat(first).isEqualTo("loaded-1");
+        assertThat(second).isEqualTo("loaded-1");
+        assertThat(remoteCache.get("key").get()).isEqualTo("loaded-1");
+        assertThat(meterRegistry.get("cache.load").tag("cache", "forecasts").tag("result", "success").timer()
+                .count()).isEqualTo(1);
+        assertThat(gets("local", "miss")).isEqualTo(1);
+        assertThat(gets("local", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturnNullOnMissInBothTiers() {
+        // Act & Assert
+        assertThat(cache.get("missing")).isNull();
+    }
+
+    @Test
+    void shouldEvictFromBothTiers() {
+        // Arrange
+        cache.put("key", "value");
+
+        // Act
+        cache.evict("key");
+
+        // Assert
+        assertThat(localCache.getIfPresent("key")).isNull();
+        assertThat(remoteCache.get("key")).isNull();
+    }
+
+    private double gets(String level, String result) {
+        return meterRegistry.get("cache.gets").tag("level", level).tag("result", result).counter().count();
+    }
+}
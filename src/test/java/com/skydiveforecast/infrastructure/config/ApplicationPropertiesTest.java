@@ -0,0 +1,60 @@
+package com.skydiveforecast.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.env.SystemEnvironmentPropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplicationPropertiesTest {
+
+    private static final String SERVICE_TOKEN = "location.service.service-token";
+
+    @Test
+    void shouldFallBackToPrewarmServiceTokenWhenLocationServiceTokenIsNotSet() throws IOException {
+        // Act
+        StandardEnvironment environment = environment(Map.of("FORECAST_PREWARM_SERVICE_TOKEN", "prewarm-token"));
+
+        // Assert
+        assertThat(environment.getProperty(SERVICE_TOKEN)).isEqualTo("prewarm-token");
+    }
+
+    @Test
+    void shouldPreferLocationServiceToken() throws IOException {
+        // Act
+        StandardEnvironment environment = environment(Map.of("LOCATION_SERVICE_TOKEN", "location-token",
+                "FORECAST_PREWARM_SERVICE_TOKEN", "prewarm-token"));
+
+        // Assert
+        assertThat(environment.getProperty(SERVICE_TOKEN)).isEqualTo("location-token");
+    }
+
+    @Test
+    void shouldLeaveServiceTokenEmptyWhenNeitherIsSet() throws IOException {
+        // Act
+        StandardEnvironment environment = environment(Map.of());
+
+        // Assert
+        assertThat(environment.getProperty(SERVICE_TOKEN)).isEmpty();
+    }
+
+    // the packaged application.yaml behind the given environment variables, as Boot orders them
+    private static StandardEnvironment environment(Map<String, Object> variables) throws IOException {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().remove(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME);
+        environment.getPropertySources().remove(StandardEnvironment.SYSTEM_PROPERTIES_PROPERTY_SOURCE_NAME);
+        environment.getPropertySources().addLast(new SystemEnvironmentPropertySource(
+                StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME, variables));
+        List<PropertySource<?>> yaml = new YamlPropertySourceLoader()
+                .load("application.yaml", new ClassPathResource("application.yaml"));
+        yaml.forEach(environment.getPropertySources()::addLast);
+        return environment;
+    }
+}
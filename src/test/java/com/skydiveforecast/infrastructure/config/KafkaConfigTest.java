@@ -0,0 +1,35 @@
+package com.skydiveforecast.infrastructure.config;
+
+import com.skydiveforecast.infrastructure.adapter.in.web.dto.WeatherReportRequestDto;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaConfigTest {
+
+    @Test
+    void shouldWriteUnreadableRecordsToDeadLetterTopicUnchanged() {
+        // Arrange
+        Map<String, Object> producerConfig = Map.of(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG,
+                JsonSerializer.class.getName());
+        Serializer<Object> serializer = KafkaConfig.deadLetterValueSerializer(producerConfig);
+        serializer.configure(producerConfig, false);
+        byte[] unreadable = {0x03, (byte) 0xff, 0x00, 0x42};
+        WeatherReportRequestDto request = new WeatherReportRequestDto();
+        request.setRequestId("r1");
+
+        // Act
+        byte[] raw = serializer.serialize(KafkaConfig.REPORT_REQUESTS_DLQ_TOPIC, unreadable);
+        byte[] json = serializer.serialize(KafkaConfig.REPORT_REQUESTS_DLQ_TOPIC, request);
+
+        // Assert
+        assertThat(raw).isEqualTo(unreadable);
+        assertThat(new String(json, StandardCharsets.UTF_8)).contains("\"requestId\":\"r1\"");
+    }
+}
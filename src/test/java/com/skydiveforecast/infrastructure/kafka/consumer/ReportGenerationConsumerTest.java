@@ -0,0 +1,71 @@
+package com.skydiveforecast.infrastructure.kafka.consumer;
+
+import com.skydiveforecast.application.service.ReportGenerationService;
+import com.skydiveforecast.application.service.ReportService;
+import com.skydiveforecast.domain.model.ReportRequest;
+import com.skydiveforecast.domain.model.WeatherReport;
+import com.skydiveforecast.infrastructure.adapter.in.web.dto.WeatherReportRequestDto;
+import com.skydiveforecast.infrastructure.kafka.producer.ReportResultProducer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReportGenerationConsumerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 6, 1);
+
+    private final ReportGenerationService reportGenerationService = mock(ReportGenerationService.class);
+    private final ReportService reportService = mock(ReportService.class);
+    private final ReportResultProducer reportResultProducer = mock(ReportResultProducer.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReportGenerationConsumer consumer =
+            new ReportGenerationConsumer(reportGenerationService, reportService, reportResultProducer, meterRegistry);
+
+    @Test
+    void shouldGenerateRecordsBeforeUnreadableOneAndReportItsPosition() {
+        // Arrange
+        WeatherReport report = WeatherReport.failed(new ReportRequest("r1", "u1", DATE, DATE, List.of()), "x");
+        when(reportGenerationService.generate(anyList())).thenReturn(List.of(report));
+        when(reportResultProducer.publish(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+        List<ConsumerRecord<String, WeatherReportRequestDto>> records = List.of(
+                new ConsumerRecord<>("weather-report-requests", 0, 10, "r1", request("r1")),
+                new ConsumerRecord<>("weather-report-requests", 0, 11, "r2", null),
+                new ConsumerRecord<>("weather-report-requests", 0, 12, "r3", request("r3")));
+
+        // Act & Assert
+        assertThatThrownBy(() -> consumer.processReportRequests(records))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .satisfies(e -> assertThat(((BatchListenerFailedException) e).getRecord()).isSameAs(records.get(1)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ReportRequest>> requests = ArgumentCaptor.forClass(List.class);
+        verify(reportGenerationService).generate(requests.capture());
+        assertThat(requests.getValue()).extracting(ReportRequest::requestId).containsExactly("r1");
+        verify(reportService).saveResults(List.of(report));
+        assertThat(meterRegistry.get("weather.reports.generated").tag("status", "failed").counter().count())
+                .isEqualTo(1);
+    }
+
+    private static WeatherReportRequestDto request(String requestId) {
+        WeatherReportRequestDto dto = new WeatherReportRequestDto();
+        dto.setRequestId(requestId);
+        dto.setUserId("u1");
+        dto.setStartDate(DATE);
+        dto.setEndDate(DATE);
+        dto.setAirportCodes(List.of("7"));
+        return dto;
+    }
+}
@@ -0,0 +1,75 @@
+package com.skydiveforecast.infrastructure.kafka.producer;
+
+import com.skydiveforecast.infrastructure.adapter.in.web.dto.WeatherReportRequestDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReportRequestOutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T10:00:00Z");
+
+    private final ReportRequestOutbox outbox = mock(ReportRequestOutbox.class);
+    private final ReportRequestProducer producer = mock(ReportRequestProducer.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ReportRequestOutboxRelay relay = new ReportRequestOutboxRelay(outbox, producer,
+            new TransactionTemplate(transactionManager), new SimpleMeterRegistry());
+
+    ReportRequestOutboxRelayTest() {
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "sendTimeout", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(relay, "relayInterval", Duration.ofSeconds(30));
+    }
+
+    @Test
+    void shouldClaimSendAndSettleInSeparateShortTransactions() {
+        // Arrange
+        ReportRequestOutbox.Entry acked = new ReportRequestOutbox.Entry(1, request("r1"), 0);
+        ReportRequestOutbox.Entry rejected = new ReportRequestOutbox.Entry(2, request("r2"), 2);
+        when(outbox.claimDue(eq(NOW), eq(100), eq(NOW.plusSeconds(40)))).thenReturn(List.of(acked, rejected));
+        when(producer.sendNow(acked.request())).thenReturn(CompletableFuture.completedFuture(null));
+        when(producer.sendNow(rejected.request()))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("expired")));
+
+        // Act
+        int relayed = relay.relayDue(NOW);
+
+        // Assert
+        assertThat(relayed).isEqualTo(1);
+        InOrder order = inOrder(transactionManager, outbox, producer);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(outbox).claimDue(any(), anyInt(), any());
+        order.verify(transactionManager).commit(any());
+        // nothing is locked or held open while Kafka is waited on
+        order.verify(producer).sendNow(acked.request());
+        order.verify(producer).sendNow(rejected.request());
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(outbox).delete(List.of(1L));
+        order.verify(outbox).markFailed(eq(2L), anyString(), any());
+        order.verify(transactionManager).commit(any());
+    }
+
+    private static WeatherReportRequestDto request(String requestId) {
+        WeatherReportRequestDto request = new WeatherReportRequestDto();
+        request.setRequestId(requestId);
+        return request;
+    }
+}
@@ -0,0 +1,113 @@
+package com.skydiveforecast.infrastructure.kafka.producer;
+
+import com.skydiveforecast.domain.model.ReportRequest;
+import com.skydiveforecast.infrastructure.adapter.in.web.dto.WeatherReportRequestDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReportRequestProducerTest {
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, WeatherReportRequestDto> kafkaTemplate = mock(KafkaTemplate.class);
+    private final ReportRequestOutbox outbox = mock(ReportRequestOutbox.class);
+    private final ReportRequestProducer producer =
+            new ReportRequestProducer(kafkaTemplate, outbox, new SimpleMeterRegistry());
+
+    private final WeatherReportRequestDto request = new WeatherReportRequestDto();
+
+    ReportRequestProducerTest() {
+        request.setRequestId("r1");
+    }
+
+    @Test
+    void shouldParkRequestWhenAckFails() {
+        // Arrange
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("expired")));
+
+        // Act
+        producer.send(request);
+
+        // Assert
+        verify(outbox, timeout(1000)).add(eq(request), any(), any());
+    }
+
+    @Test
+    void shouldWriteOutboxOnDedicatedThreadWhenAckFails() throws Exception {
+        // Arrange
+        CompletableFuture<SendResult<String, WeatherReportRequestDto>> ack = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(ack);
+        CompletableFuture<String> parkedOn = new CompletableFuture<>();
+        doAnswer(invocation -> parkedOn.complete(Thread.currentThread().getName()))
+                .when(outbox).add(eq(request), any(), any());
+        producer.send(request);
+
+        // Act
+        ack.completeExceptionally(new TimeoutException("expired"));
+
+        // Assert
+        assertThat(parkedOn.get(1, TimeUnit.SECONDS)).startsWith("report-outbox-writer-");
+    }
+
+    @Test
+    void shouldParkRequestWhenSendThrows() {
+        // Arrange
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenThrow(new TimeoutException("no metadata"));
+
+        // Act
+        producer.send(request);
+
+        // Assert
+        verify(outbox).add(eq(request), any(), any());
+    }
+
+    @Test
+    void shouldNotTouchOutboxWhenAcknowledged() {
+        // Arrange
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        producer.send(request);
+
+        // Assert
+        verify(kafkaTemplate).send("weather-report-requests", "r1", request);
+        verify(outbox, never()).add(any(), any(), any());
+    }
+
+    @Test
+    void shouldPublishReportRequestAsDto() {
+        // Arrange
+        LocalDate date = LocalDate.of(2025, 6, 1);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        producer.publish(new ReportRequest("r1", "u1", date, date.plusDays(1), List.of("7")));
+
+        // Assert
+        ArgumentCaptor<WeatherReportRequestDto> sent = ArgumentCaptor.forClass(WeatherReportRequestDto.class);
+        verify(kafkaTemplate).send(eq("weather-report-requests"), eq("r1"), sent.capture());
+        assertThat(sent.getValue().getUserId()).isEqualTo("u1");
+        assertThat(sent.getValue().getEndDate()).isEqualTo(date.plusDays(1));
+        assertThat(sent.getValue().getAirportCodes()).containsExactly("7");
+    }
+}
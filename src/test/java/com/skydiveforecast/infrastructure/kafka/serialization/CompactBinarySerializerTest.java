@@ -0,0 +1,146 @@
+package com.skydiveforecast.infrastructure.kafka.serialization;
+
+import com.skydiveforecast.domain.model.AirportReport;
+import com.skydiveforecast.domain.model.DailyJumpability;
+import com.skydiveforecast.domain.model.DayNarrative;
+import com.skydiveforecast.domain.model.JumpWindow;
+import com.skydiveforecast.domain.model.ReportStatus;
+import com.skydiveforecast.domain.model.WeatherReport;
+import com.skydiveforecast.infrastructure.adapter.in.web.dto.WeatherReportRequestDto;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactBinarySerializerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 6, 1);
+
+    private final CompactBinarySerializer serializer = new CompactBinarySerializer();
+    private final CompactBinaryDeserializer deserializer = new CompactBinaryDeserializer();
+
+    CompactBinarySerializerTest() {
+        serializer.configure(Map.of(), false);
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+    }
+
+    @Test
+    void shouldRoundTripReportRequestIncludingNulls() {
+        // Arrange
+        WeatherReportRequestDto request = new WeatherReportRequestDto();
+        request.setRequestId("r1");
+        request.setStartDate(DATE);
+        request.setAirportCodes(Arrays.asList("7", null, "Skydive Łódź"));
+
+        // Act
+        byte[] bytes = serializer.serialize("weather-report-requests", new RecordHeaders(), request);
+        Object read = deserializer.deserialize("weather-report-requests", new RecordHeaders(), bytes);
+
+        // Assert
+        assertThat(bytes[0]).isEqualTo(CompactBinaryCodec.MAGIC);
+        assertThat(read).isEqualTo(request);
+    }
+
+    @Test
+    void shouldRoundTripWeatherReportSmallerThanJson() {
+        // Arrange
+        WeatherReport report = new WeatherReport("r1", "u1", ReportStatus.COMPLETED, DATE, DATE.plusDays(1),
+                Instant.parse("2025-06-01T06:15:30.123Z"),
+                List.of(new AirportReport("7", 7L, "Skydive Warsaw",
+                        List.of(new DailyJumpability(DATE, 74, 9, true)),
+                        List.of(new JumpWindow(DATE.atTime(9, 0), DATE.atTime(15, 0), 81)),
+                        List.of(new DayNarrative(DATE, "Jumpable 09-15, gusts pick up after 15.")))),
+                List.of("unknown"), null);
+
+        // Act
+        byte[] bytes = serializer.serialize("weather-report-results", new RecordHeaders(), report);
+        Object read = deserializer.deserialize("weather-report-results", new RecordHeaders(), bytes);
+
+        // Assert
+        assertThat(read).isEqualTo(report);
+        try (JsonSerializer<Object> json = new JsonSerializer<>()) {
+            assertThat(bytes.length).isLessThan(json.serialize("weather-report-results", report).length);
+        }
+    }
+
+    @Test
+    void shouldReadJsonWrittenByJsonSerializer() {
+        // Arrange
+        WeatherReportRequestDto request = new WeatherReportRequestDto();
+        request.setRequestId("r1");
+        request.setEndDate(DATE);
+        RecordHeaders headers = new RecordHeaders();
+        byte[] json;
+        try (JsonSerializer<Object> jsonSerializer = new JsonSerializer<>()) {
+            json = jsonSerializer.serialize("weather-report-requests", headers, request);
+        }
+
+        // Act
+        Object read = deserializer.deserialize("weather-report-requests", headers, json);
+
+        // Assert
+        assertThat(read).isEqualTo(request);
+    }
+
+    @Test
+    void shouldRejectUnknownReportStatusCode() {
+        // Arrange
+        byte[] pending = serializer.serialize("weather-report-results", new RecordHeaders(), report(ReportStatus.PENDING));
+        byte[] failed = serializer.serialize("weather-report-results", new RecordHeaders(), report(ReportStatus.FAILED));
+        int statusAt = 0;
+        while (pending[statusAt] == failed[statusAt]) {
+            statusAt++;
+        }
+        pending[statusAt] = 42;
+
+        // Act & Assert
+        assertThat(deserializer.deserialize("weather-report-results", new RecordHeaders(), failed))
+                .isEqualTo(report(ReportStatus.FAILED));
+        assertThatThrownBy(() -> deserializer.deserialize("weather-report-results", new RecordHeaders(), pending))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Unknown report status code 42");
+    }
+
+    @Test
+    void shouldRejectCorruptLengthsAndCounts() {
+        // Arrange
+        WeatherReportRequestDto request = new WeatherReportRequestDto();
+        request.setRequestId("r1");
+        request.setAirportCodes(List.of("7"));
+        byte[] valid = serializer.serialize("weather-report-requests", new RecordHeaders(), request);
+        // magic, type, then the request id's length
+        byte[] hugeString = withIntAt(valid, 2, Integer.MAX_VALUE);
+        byte[] negativeString = withIntAt(valid, 2, -2);
+        // after the id and two dates comes the airport code count
+        byte[] hugeCount = withIntAt(valid, 2 + 4 + 2 + 8 + 8, Integer.MAX_VALUE);
+
+        // Act & Assert
+        for (byte[] corrupt : List.of(hugeString, negativeString, hugeCount)) {
+            assertThatThrownBy(() -> deserializer.deserialize("weather-report-requests", new RecordHeaders(), corrupt))
+                    .isInstanceOf(SerializationException.class)
+                    .hasMessageContaining("Invalid length");
+        }
+    }
+
+    private static byte[] withIntAt(byte[] data, int offset, int value) {
+        byte[] copy = data.clone();
+        ByteBuffer.wrap(copy).putInt(offset, value);
+        return copy;
+    }
+
+    private static WeatherReport report(ReportStatus status) {
+        return new WeatherReport("r1", "u1", status, DATE, DATE, Instant.parse("2025-06-01T06:00:00Z"), List.of(),
+                List.of(), null);
+    }
+}
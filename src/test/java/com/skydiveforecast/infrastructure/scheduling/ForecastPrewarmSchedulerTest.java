@@ -0,0 +1,160 @@
+package com.skydiveforecast.infrastructure.scheduling;
+
+import com.skydiveforecast.application.service.DropzoneService;
+import com.skydiveforecast.application.service.ForecastDemandTracker;
+import com.skydiveforecast.application.service.ForecastService;
+import com.skydiveforecast.application.service.JumpabilityService;
+import com.skydiveforecast.domain.model.Dropzone;
+import com.skydiveforecast.domain.model.Forecast;
+import com.skydiveforecast.domain.model.GeoPoint;
+import com.skydiveforecast.infrastructure.adapter.out.OpenMeteoModelRunSchedule;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static com.skydiveforecast.TestFixtures.dropzone;
+import static com.skydiveforecast.TestFixtures.forecast;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ForecastPrewarmSchedulerTest {
+
+    private static final Instant MODEL_RUN = Instant.parse("2025-06-01T03:45:00Z");
+
+    private final DropzoneService dropzoneService = mock(DropzoneService.class);
+    private final ForecastService forecastService = mock(ForecastService.class);
+    private final JumpabilityService jumpabilityService = mock(JumpabilityService.class);
+    private final OpenMeteoModelRunSchedule modelRunSchedule = mock(OpenMeteoModelRunSchedule.class);
+    private final PrewarmLease lease = mock(PrewarmLease.class);
+    private final ForecastDemandTracker demandTracker = new ForecastDemandTracker();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Dropzone quiet = dropzone(1L, "50.00", "19.00");
+    private final Dropzone busy = dropzone(2L, "52.23", "21.01");
+    private final Dropzone busiest = dropzone(3L, "54.32", "18.62");
+    private final Forecast today = forecast(LocalDate.now(ZoneOffset.UTC), 14.0);
+
+    private ForecastPrewarmScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ForecastPrewarmScheduler(dropzoneService, forecastService, jumpabilityService, demandTracker,
+                modelRunSchedule, lease, RateLimiterRegistry.ofDefaults(), meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "enabled", true);
+        ReflectionTestUtils.setField(scheduler, "days", 1);
+        ReflectionTestUtils.setField(scheduler, "batchSize", 1);
+        ReflectionTestUtils.setField(scheduler, "concurrency", 1);
+
+        when(modelRunSchedule.currentModelRunAvailableAt()).thenReturn(MODEL_RUN);
+        when(lease.tryAcquire(MODEL_RUN)).thenReturn(true);
+        when(dropzoneService.getCatalogWithoutUser()).thenReturn(List.of(quiet, busy, busiest));
+    }
+
+    @Test
+    void shouldWarmBusiestAreasFirst() {
+        // Arrange
+        demandTracker.record(54.321, 18.618);
+        demandTracker.record(54.319, 18.622);
+        demandTracker.record(52.2297, 21.0122);
+        when(forecastService.getForecasts(anyList(), any(), any())).thenReturn(List.of(today));
+
+        // Act
+        scheduler.warmAfterModelRun();
+
+        // Assert
+        InOrder order = inOrder(forecastService);
+        order.verify(forecastService).getForecasts(eq(List.of(location(busiest))), any(), any());
+        order.verify(forecastService).getForecasts(eq(List.of(location(busy))), any(), any());
+        order.verify(forecastService).getForecasts(eq(List.of(location(quiet))), any(), any());
+        verify(lease).complete(MODEL_RUN);
+    }
+
+    @Test
+    void shouldReportCoverageOfDropzonesWithFullForecasts() {
+        // Arrange
+        when(forecastService.getForecasts(anyList(), any(), any()))
+                .thenReturn(List.of(today))
+                .thenReturn(List.of(Forecast.empty(0, 0)))
+                .thenReturn(List.of(today));
+
+        // Act
+        scheduler.warmAfterModelRun();
+
+        // Assert
+        PrewarmStatus status = scheduler.status();
+        assertThat(status.dropzones()).isEqualTo(3);
+        assertThat(status.warmDropzones()).isEqualTo(2);
+        assertThat(status.coveragePct()).isCloseTo(66.7, within(0.1));
+        assertThat(status.warmedModelRun()).isEqualTo(MODEL_RUN);
+        assertThat(status.perDropzone()).filteredOn(PrewarmStatus.DropzoneWarmth::warm).hasSize(2)
+                .allSatisfy(warmth -> assertThat(warmth.refreshAgeSeconds()).isNotNull());
+        verify(jumpabilityService).update(eq(busy), any());
+    }
+
+    @Test
+    void shouldExportCoverageOfLastPrewarmCycle() {
+        // Arrange
+        when(forecastService.getForecasts(anyList(), any(), any()))
+                .thenReturn(List.of(today))
+                .thenReturn(List.of(Forecast.empty(0, 0)))
+                .thenReturn(List.of(today));
+        scheduler.warmAfterModelRun();
+        when(modelRunSchedule.currentModelRunAvailableAt()).thenReturn(Instant.now().plus(Duration.ofHours(3)));
+
+        // Act
+        double coverage = meterRegistry.get("forecast.prewarm.coverage").gauge().value();
+
+        // Assert
+        assertThat(coverage).isCloseTo(66.7, within(0.1));
+        assertThat(scheduler.status().coveragePct()).isZero();
+    }
+
+    @Test
+    void shouldSkipModelRunWarmedByAnotherPod() {
+        // Arrange
+        when(lease.isDone(MODEL_RUN)).thenReturn(true);
+
+        // Act
+        scheduler.warmAfterModelRun();
+        scheduler.warmAfterModelRun();
+
+        // Assert
+        verify(lease, never()).tryAcquire(any());
+        verify(forecastService, never()).getForecasts(anyList(), any(), any());
+        assertThat(scheduler.status().warmedModelRun()).isEqualTo(MODEL_RUN);
+    }
+
+    @Test
+    void shouldNotWarmWithoutLease() {
+        // Arrange
+        when(lease.tryAcquire(MODEL_RUN)).thenReturn(false);
+
+        // Act
+        scheduler.warmAfterModelRun();
+
+        // Assert
+        verify(forecastService, never()).getForecasts(anyList(), any(), any());
+        verify(lease, never()).complete(any());
+    }
+
+    private static GeoPoint location(Dropzone dropzone) {
+        return new GeoPoint(dropzone.getLatitude().doubleValue(), dropzone.getLongitude().doubleValue());
+    }
+}
@@ -0,0 +1,136 @@
+package com.skydiveforecast.infrastructure.security;
+
+import com.skydiveforecast.domain.model.VerifiedClaims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthServiceImplTest {
+
+    private static final String SECRET = "test-secret-that-is-at-least-32-characters-long";
+    private static final Instant NOW = Instant.parse("2025-06-01T10:00:00Z");
+
+    private MutableClock clock;
+    private AuthServiceImpl authService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        meterRegistry = new SimpleMeterRegistry();
+        authService = new AuthServiceImpl(SECRET, 100, Duration.ofMinutes(10), clock, meterRegistry);
+    }
+
+    @Test
+    void shouldVerifyTokenOnceAndServeRepeatCallsFromCache() {
+        // Arrange
+        String token = token(SECRET, NOW.plus(Duration.ofHours(1)));
+
+        // Act
+        VerifiedClaims first = authService.verify(token);
+        VerifiedClaims second = authService.verify(token);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(first.username()).isEqualTo("jumper@example.com");
+        assertThat(first.userId()).isEqualTo(42L);
+        assertThat(first.roles()).containsExactlyInAnyOrder("USER", "JUMPER");
+        assertThat(first.permissions()).containsExactly("FORECAST_VIEW");
+        assertThat(authService.extractPermissions(token)).containsExactly("FORECAST_VIEW");
+        assertThat(meterRegistry.get("jwt.verify").tag("result", "verified").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.verify").tag("result", "cached").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotServeCachedClaimsPastTokenExpiry() {
+        // Arrange
+        String token = token(SECRET, NOW.plus(Duration.ofMinutes(1)));
+        authService.verify(token);
+
+        // Act
+        clock.advance(Duration.ofMinutes(2));
+
+        // Assert
+        assertThatThrownBy(() -> authService.verify(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(authService.isTokenValid(token)).isFalse();
+    }
+
+    @Test
+    void shouldReverifyAfterMaxCacheTtl() {
+        // Arrange
+        String token = token(SECRET, NOW.plus(Duration.ofHours(1)));
+        VerifiedClaims first = authService.verify(token);
+
+        // Act
+        clock.advance(Duration.ofMinutes(11));
+        VerifiedClaims second = authService.verify(token);
+
+        // Assert
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithAnotherKey() {
+        // Arrange
+        String token = token("another-secret-that-is-at-least-32-characters", NOW.plus(Duration.ofHours(1)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> authService.verify(token)).isInstanceOf(SignatureException.class);
+        assertThat(authService.isTokenValid(token)).isFalse();
+    }
+
+    private static String token(String secret, Instant expiresAt) {
+        return Jwts.builder()
+                .subject("jumper@example.com")
+                .claim("userId", 42L)
+                .claim("roles", List.of("USER", "JUMPER"))
+                .claim("permissions", List.of("FORECAST_VIEW"))
+                .expiration(Date.from(expiresAt))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}